@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 / 가상 스레드 모드를 차례로 띄워 같은 부하(task-mix.js)를 주고 처리량과 p99를 비교
+# 필요: JDK 21, k6, jq, 실행 중인 PostgreSQL (docker-compose up -d postgres)
+# 사용: loadtest/compare.sh [동시 클라이언트 수=1000] [유지 시간=2m]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CLIENTS="${1:-1000}"
+DURATION="${2:-2m}"
+PORT="${PORT:-8080}"
+OUT_DIR="loadtest/results/$(date +%Y%m%d-%H%M%S)"
+mkdir -p "$OUT_DIR"
+
+./mvnw -q -DskipTests package
+JAR="$(ls target/taskorbit-*.jar | grep -v plain | head -n 1)"
+
+run_mode() {
+    local mode="$1" virtual="$2"
+    echo "== ${mode} (VIRTUAL_THREADS=${virtual}, ${CLIENTS} clients, ${DURATION})"
+    VIRTUAL_THREADS="$virtual" SPRING_JPA_SHOW_SQL=false java -jar "$JAR" --server.port="$PORT" \
+        > "$OUT_DIR/${mode}-app.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    for _ in $(seq 1 60); do
+        if curl -sf "http://localhost:${PORT}/api/tasks/today?limit=1" > /dev/null; then
+            break
+        fi
+        sleep 1
+    done
+
+    k6 run --quiet -e BASE_URL="http://localhost:${PORT}" -e CLIENTS="$CLIENTS" -e DURATION="$DURATION" \
+        --summary-export "$OUT_DIR/${mode}.json" loadtest/task-mix.js > "$OUT_DIR/${mode}-k6.log"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform false
+run_mode virtual true
+
+printf '\n%-10s %12s %10s %10s %10s\n' mode "req/s" "p50(ms)" "p99(ms)" "failed"
+for mode in platform virtual; do
+    jq -r --arg mode "$mode" '[$mode,
+        (.metrics.http_reqs.rate | floor),
+        (.metrics.http_req_duration["p(50)"] | . * 10 | floor / 10),
+        (.metrics.http_req_duration["p(99)"] | . * 10 | floor / 10),
+        (.metrics.http_req_failed.value)] | @tsv' "$OUT_DIR/${mode}.json" \
+        | awk -F'\t' '{ printf "%-10s %12s %10s %10s %10s\n", $1, $2, $3, $4, $5 }'
+done
+echo "results: $OUT_DIR"
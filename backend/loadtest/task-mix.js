@@ -0,0 +1,75 @@
+// TaskOrbit 부하 테스트 (k6): 플랫폼 스레드 / 가상 스레드 모드의 처리량과 p99 비교용
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e CLIENTS=1000 -e DURATION=2m task-mix.js
+// 요청 구성: 탭 조회 60%, 단건 조회 20%, 쓰기(생성 → 완료 → 삭제) 20%
+// 탭 조회는 ReadCache를 타므로, 쓰기가 캐시를 비워 DB 조회(블로킹 JDBC)가 계속 섞이도록 함
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CLIENTS = parseInt(__ENV.CLIENTS || '1000', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        clients: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: CLIENTS },
+                { duration: DURATION, target: CLIENTS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+// 단건 조회 대상: 시작 시 만든 작업
+export function setup() {
+    const ids = [];
+    for (let i = 0; i < 100; i++) {
+        const res = http.post(`${BASE_URL}/api/tasks`,
+            JSON.stringify({ title: `load seed ${i}`, category: 'loadtest' }), JSON_HEADERS);
+        if (res.status === 201) {
+            ids.push(res.json('id'));
+        }
+    }
+    return { ids };
+}
+
+export default function (data) {
+    const roll = Math.random();
+    if (roll < 0.3) {
+        check(http.get(`${BASE_URL}/api/tasks/today?limit=50`, { tags: { name: 'today' } }),
+            { 'today 200': (r) => r.status === 200 });
+    } else if (roll < 0.45) {
+        check(http.get(`${BASE_URL}/api/tasks/later?limit=50`, { tags: { name: 'later' } }),
+            { 'later 200': (r) => r.status === 200 });
+    } else if (roll < 0.6) {
+        check(http.get(`${BASE_URL}/api/tasks/record?limit=50`, { tags: { name: 'record' } }),
+            { 'record 200': (r) => r.status === 200 });
+    } else if (roll < 0.8) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        check(http.get(`${BASE_URL}/api/tasks/${id}`, { tags: { name: 'get' } }),
+            { 'get 200': (r) => r.status === 200 });
+    } else {
+        const created = http.post(`${BASE_URL}/api/tasks`,
+            JSON.stringify({ title: `load ${__VU}-${__ITER}`, category: 'loadtest' }),
+            Object.assign({ tags: { name: 'create' } }, JSON_HEADERS));
+        if (!check(created, { 'create 201': (r) => r.status === 201 })) {
+            return;
+        }
+        const id = created.json('id');
+        check(http.post(`${BASE_URL}/api/tasks/${id}/complete`, null, { tags: { name: 'complete' } }),
+            { 'complete 200': (r) => r.status === 200 });
+        check(http.del(`${BASE_URL}/api/tasks/${id}`, null, { tags: { name: 'delete' } }),
+            { 'delete 204': (r) => r.status === 204 });
+    }
+}
+
+export function teardown(data) {
+    data.ids.forEach((id) => http.del(`${BASE_URL}/api/tasks/${id}`));
+}
@@ -26,6 +26,9 @@ public class CorsConfig {
         // 허용할 헤더
         config.setAllowedHeaders(List.of("*"));
         
+        // 브라우저에서 읽을 수 있는 응답 헤더 (목록 페이지 커서, 버전 ETag)
+        config.setExposedHeaders(List.of("X-Next-Cursor", "ETag"));
+        
         // 인증 정보 허용
         config.setAllowCredentials(true);
         
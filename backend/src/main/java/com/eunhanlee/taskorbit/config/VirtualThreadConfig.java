@@ -0,0 +1,46 @@
+package com.eunhanlee.taskorbit.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true일 때만)
+ * Tomcat 요청 처리, @Async/applicationTaskExecutor는 Spring Boot가 가상 스레드로 실행.
+ * 여기서는 DataSource를 ConnectionLimitingDataSource로 감싸 동시 커넥션 사용을 풀 크기 이하로 제한.
+ * @Scheduled 작업은 가상 스레드 대신 단일 스레드 스케줄러에서 실행 (3시 일일 실행, 4시 재구성, 4시 30분 로그 정리,
+ * 4시 45분 tombstone 정리가 서로 겹치지 않도록: 플랫폼 스레드 모드의 기본 스케줄러와 같은 동작).
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${db.max-concurrent-connections:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConnections,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long acquireTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    return new ConnectionLimitingDataSource(dataSource, maxConnections, acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 이 빈이 있으면 Spring Boot가 가상 스레드 스케줄러(작업마다 새 스레드)를 만들지 않음
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+}
@@ -0,0 +1,24 @@
+package com.eunhanlee.taskorbit.controller;
+
+import com.eunhanlee.taskorbit.service.ChangeEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class EventController {
+
+    private final ChangeEventService changeEventService;
+
+    // 변경 이벤트 스트림 (SSE): change 이벤트로 작업/로그/설정 변경, resync면 목록을 다시 조회
+    // 재연결 시 EventSource가 보내는 Last-Event-ID 이후의 이벤트부터 이어받음
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeEventService.subscribe(lastEventId);
+    }
+}
@@ -1,8 +1,14 @@
 package com.eunhanlee.taskorbit.controller;
 
 import com.eunhanlee.taskorbit.entity.RecurringTaskSetting;
+import com.eunhanlee.taskorbit.service.BoardVersion;
+import com.eunhanlee.taskorbit.service.ReadCache;
 import com.eunhanlee.taskorbit.service.RecurringTaskSettingService;
+import com.eunhanlee.taskorbit.util.EtagUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,40 +22,69 @@ import java.util.List;
 public class RecurringTaskSettingController {
 
     private final RecurringTaskSettingService recurringTaskSettingService;
+    private final ReadCache readCache;
+    private final BoardVersion boardVersion;
 
-    // 활성화된 반복 작업 설정 조회
+    // 활성화된 반복 작업 설정 조회 (ETag: 보드 버전, If-None-Match가 같으면 조회 없이 304)
     @GetMapping("/active")
-    public ResponseEntity<List<RecurringTaskSetting>> getActiveSettings() {
-        return ResponseEntity.ok(recurringTaskSettingService.getActiveSettings());
+    public ResponseEntity<List<RecurringTaskSetting>> getActiveSettings(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = boardVersion.etag();
+        if (EtagUtil.matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return listResponse(etag, readCache.get(ReadCache.ACTIVE_SETTINGS, "all",
+                recurringTaskSettingService::getActiveSettings));
     }
 
-    // 모든 반복 작업 설정 조회
+    // 모든 반복 작업 설정 조회 (ETag: 보드 버전)
     @GetMapping
-    public ResponseEntity<List<RecurringTaskSetting>> getAllSettings() {
-        return ResponseEntity.ok(recurringTaskSettingService.getAllSettings());
+    public ResponseEntity<List<RecurringTaskSetting>> getAllSettings(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = boardVersion.etag();
+        if (EtagUtil.matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return listResponse(etag, recurringTaskSettingService.getAllSettings());
     }
 
-    // 반복 작업 설정 조회
+    // 반복 작업 설정 조회 (ETag: 버전)
     @GetMapping("/{id}")
     public ResponseEntity<RecurringTaskSetting> getSetting(@PathVariable Long id) {
-        return ResponseEntity.ok(recurringTaskSettingService.getSetting(id));
+        RecurringTaskSetting setting = recurringTaskSettingService.getSetting(id);
+        return ResponseEntity.ok()
+                .eTag(EtagUtil.format(setting.getVersion()))
+                .body(setting);
     }
 
-    // 반복 작업 설정 생성
+    // 반복 작업 설정 생성 (반복 설정이 잘못되면 400)
     @PostMapping
     public ResponseEntity<RecurringTaskSetting> createSetting(
             @RequestBody RecurringTaskSetting setting) {
-        RecurringTaskSetting created = recurringTaskSettingService.createSetting(setting);
-        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        try {
+            RecurringTaskSetting created = recurringTaskSettingService.createSetting(setting);
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
-    // 반복 작업 설정 수정
+    // 반복 작업 설정 수정 (If-Match 버전이 다르면 412)
     @PutMapping("/{id}")
     public ResponseEntity<RecurringTaskSetting> updateSetting(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody RecurringTaskSetting setting) {
-        RecurringTaskSetting updated = recurringTaskSettingService.updateSetting(id, setting);
-        return ResponseEntity.ok(updated);
+        try {
+            RecurringTaskSetting updated = recurringTaskSettingService.updateSetting(id, setting, EtagUtil.parseIfMatch(ifMatch));
+            return ResponseEntity.ok()
+                    .eTag(EtagUtil.format(updated.getVersion()))
+                    .body(updated);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
 
     // 반복 작업 설정 삭제
@@ -62,7 +97,26 @@ public class RecurringTaskSettingController {
     // 반복 작업 설정 활성화/비활성화
     @PostMapping("/{id}/toggle")
     public ResponseEntity<RecurringTaskSetting> toggleActive(@PathVariable Long id) {
-        return ResponseEntity.ok(recurringTaskSettingService.toggleActive(id));
+        try {
+            return ResponseEntity.ok(recurringTaskSettingService.toggleActive(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 목록 응답: 보드 버전 ETag + no-cache (브라우저가 매번 If-None-Match로 재검증)
+    private static ResponseEntity<List<RecurringTaskSetting>> listResponse(String etag, List<RecurringTaskSetting> settings) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(settings);
+    }
+
+    private static ResponseEntity<List<RecurringTaskSetting>> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .build();
     }
 }
 
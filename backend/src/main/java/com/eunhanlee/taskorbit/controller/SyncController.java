@@ -0,0 +1,36 @@
+package com.eunhanlee.taskorbit.controller;
+
+import com.eunhanlee.taskorbit.dto.SyncResponse;
+import com.eunhanlee.taskorbit.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    // since 커서 이후의 변경만 조회 (since 없으면 전체), hasMore면 nextCursor로 이어서 요청
+    // 커서가 너무 오래되어 삭제 기록이 정리됐으면 410 (탭 전체 다시 조회 후 since 없이 시작)
+    @GetMapping
+    public ResponseEntity<SyncResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+        try {
+            return ResponseEntity.ok(syncService.getChangesSince(since, pageSize));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.GONE).build();
+        }
+    }
+}
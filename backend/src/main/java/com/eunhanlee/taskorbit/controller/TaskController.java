@@ -1,18 +1,29 @@
 package com.eunhanlee.taskorbit.controller;
 
+import com.eunhanlee.taskorbit.dto.BulkTaskRequest;
+import com.eunhanlee.taskorbit.dto.BulkTaskResult;
+import com.eunhanlee.taskorbit.dto.TaskRecordResponse;
 import com.eunhanlee.taskorbit.dto.TaskRequest;
 import com.eunhanlee.taskorbit.dto.TaskResponse;
 import com.eunhanlee.taskorbit.entity.Task;
-import com.eunhanlee.taskorbit.entity.TaskLog;
-import com.eunhanlee.taskorbit.service.TaskLogService;
+import com.eunhanlee.taskorbit.service.BoardVersion;
+import com.eunhanlee.taskorbit.service.ReadCache;
 import com.eunhanlee.taskorbit.service.TaskService;
+import com.eunhanlee.taskorbit.util.CursorUtil;
+import com.eunhanlee.taskorbit.util.EtagUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -23,27 +34,39 @@ import java.util.stream.Collectors;
 public class TaskController {
 
     private final TaskService taskService;
-    private final TaskLogService taskLogService;
+    private final ReadCache readCache;
+    private final BoardVersion boardVersion;
 
-    // Today 탭 조회
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    // 일괄 작업 한 요청의 최대 항목 수 (한 트랜잭션에서 Undo 커서 행을 잠근 채 처리하므로 제한)
+    private static final int MAX_BULK_OPERATIONS = 500;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    // Today 탭 조회 (limit 또는 cursor 지정 시 페이지 조회, 다음 커서는 X-Next-Cursor 헤더)
+    // 탭 응답은 ReadCache에 두고 작업이 바뀌면 비움 (Today/Later 키에 날짜를 넣어 자정에 넘어감)
+    // 목록 ETag는 보드 버전: If-None-Match가 같으면 캐시/DB 조회 없이 304
     @GetMapping("/today")
-    public ResponseEntity<List<TaskResponse>> getTodayTasks() {
+    public ResponseEntity<List<TaskResponse>> getTodayTasks(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        LocalDate today = LocalDate.now();
+        String etag = boardVersion.etag(today);
+        if (EtagUtil.matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
         try {
-            List<Task> tasks = taskService.getTodayTasks();
-            List<TaskResponse> responses = tasks.stream()
-                    .map(task -> {
-                        try {
-                            String nextAction = taskLogService.getLatestLog(task.getId())
-                                    .map(TaskLog::getNextAction)
-                                    .orElse(null);
-                            return TaskResponse.from(task, nextAction);
-                        } catch (Exception e) {
-                            // 로그 조회 실패 시 nextAction 없이 응답
-                            return TaskResponse.from(task, null);
-                        }
-                    })
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(responses);
+            return withBoardEtag(etag, readCache.get(ReadCache.TODAY, cacheKey(today, limit, cursor), () -> {
+                if (limit == null && cursor == null) {
+                    return ResponseEntity.ok(toResponses(taskService.getTodayTasks()));
+                }
+                int pageSize = toPageSize(limit);
+                return toPage(taskService.getTodayTasks(cursor, pageSize), pageSize,
+                        TaskResponse::from, TaskController::dueDateCursor);
+            }));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("Error fetching today tasks", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -52,57 +75,82 @@ public class TaskController {
 
     // Later 탭 조회
     @GetMapping("/later")
-    public ResponseEntity<List<TaskResponse>> getLaterTasks() {
-        List<Task> tasks = taskService.getLaterTasks();
-        List<TaskResponse> responses = tasks.stream()
-                .map(task -> {
-                    String nextAction = taskLogService.getLatestLog(task.getId())
-                            .map(TaskLog::getNextAction)
-                            .orElse(null);
-                    return TaskResponse.from(task, nextAction);
-                })
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<List<TaskResponse>> getLaterTasks(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        LocalDate today = LocalDate.now();
+        String etag = boardVersion.etag(today);
+        if (EtagUtil.matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        try {
+            return withBoardEtag(etag, readCache.get(ReadCache.LATER, cacheKey(today, limit, cursor), () -> {
+                if (limit == null && cursor == null) {
+                    return ResponseEntity.ok(toResponses(taskService.getLaterTasks()));
+                }
+                int pageSize = toPageSize(limit);
+                return toPage(taskService.getLaterTasks(cursor, pageSize), pageSize,
+                        TaskResponse::from, TaskController::dueDateCursor);
+            }));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // Done 탭 조회
     @GetMapping("/done")
-    public ResponseEntity<List<TaskResponse>> getDoneTasks() {
-        List<Task> tasks = taskService.getDoneTasks();
-        List<TaskResponse> responses = tasks.stream()
-                .map(task -> {
-                    String nextAction = taskLogService.getLatestLog(task.getId())
-                            .map(TaskLog::getNextAction)
-                            .orElse(null);
-                    return TaskResponse.from(task, nextAction);
-                })
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<List<TaskResponse>> getDoneTasks(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = boardVersion.etag();
+        if (EtagUtil.matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        try {
+            return withBoardEtag(etag, readCache.get(ReadCache.DONE, cacheKey(null, limit, cursor), () -> {
+                if (limit == null && cursor == null) {
+                    return ResponseEntity.ok(toResponses(taskService.getDoneTasks()));
+                }
+                int pageSize = toPageSize(limit);
+                return toPage(taskService.getDoneTasks(cursor, pageSize), pageSize,
+                        TaskResponse::from, task -> CursorUtil.encode(task.getUpdatedAt(), task.getId()));
+            }));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
-    // Record 탭 조회
+    // Record 탭 조회 (작업당 1건, 완료 횟수/최초·최근 완료일 포함)
     @GetMapping("/record")
-    public ResponseEntity<List<TaskResponse>> getRecordTasks() {
-        List<Task> tasks = taskService.getRecordTasks();
-        List<TaskResponse> responses = tasks.stream()
-                .map(task -> {
-                    String nextAction = taskLogService.getLatestLog(task.getId())
-                            .map(TaskLog::getNextAction)
-                            .orElse(null);
-                    return TaskResponse.from(task, nextAction);
-                })
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<List<TaskRecordResponse>> getRecordTasks(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = boardVersion.etag();
+        if (EtagUtil.matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        try {
+            return withBoardEtag(etag, readCache.get(ReadCache.RECORD, cacheKey(null, limit, cursor), () -> {
+                if (limit == null && cursor == null) {
+                    return ResponseEntity.ok(taskService.getRecordTasks());
+                }
+                int pageSize = toPageSize(limit);
+                return toPage(taskService.getRecordTasks(cursor, pageSize), pageSize,
+                        Function.identity(), record -> CursorUtil.encode(record.getLastCompletedDate(), record.getId()));
+            }));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
-    // 작업 조회
+    // 작업 조회 (ETag: 버전)
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponse> getTask(@PathVariable Long id) {
         Task task = taskService.getTask(id);
-        String nextAction = taskLogService.getLatestLog(id)
-                .map(TaskLog::getNextAction)
-                .orElse(null);
-        return ResponseEntity.ok(TaskResponse.from(task, nextAction));
+        return withEtag(task);
     }
 
     // 작업 생성
@@ -121,10 +169,22 @@ public class TaskController {
                 .body(TaskResponse.from(created));
     }
 
-    // 작업 수정
+    // 일괄 작업 (생성/수정/완료/대기/활성화/삭제): 한 트랜잭션, 항목별 결과 반환, Undo 한 번에 전체 되돌림
+    // 항목이 없거나 MAX_BULK_OPERATIONS개를 넘으면 400
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkTaskResult>> bulkMutate(@RequestBody BulkTaskRequest request) {
+        if (request.getOperations() == null || request.getOperations().isEmpty()
+                || request.getOperations().size() > MAX_BULK_OPERATIONS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(taskService.bulkMutate(request.getOperations()));
+    }
+
+    // 작업 수정 (If-Match 버전이 다르면 412)
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody TaskRequest request) {
         Task task = Task.builder()
                 .title(request.getTitle())
@@ -134,70 +194,167 @@ public class TaskController {
                 .dueDate(request.getDueDate())
                 .build();
         
-        Task updated = taskService.updateTask(id, task);
-        String nextAction = taskLogService.getLatestLog(id)
-                .map(TaskLog::getNextAction)
-                .orElse(null);
-        return ResponseEntity.ok(TaskResponse.from(updated, nextAction));
+        try {
+            return withEtag(taskService.updateTask(id, task, EtagUtil.parseIfMatch(ifMatch)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
 
-    // 작업 삭제
+    // 작업 부분 수정 (JSON merge patch: 보낸 필드만 변경, null은 비움, If-Match 버전이 다르면 412)
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponse> patchTask(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody Map<String, Object> fields) {
+        try {
+            return withEtag(taskService.patchTask(id, fields, EtagUtil.parseIfMatch(ifMatch)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+    }
+
+    // 작업 삭제 (If-Match 버전이 다르면 412)
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
-        taskService.deleteTask(id);
+    public ResponseEntity<Void> deleteTask(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            taskService.deleteTask(id, EtagUtil.parseIfMatch(ifMatch));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
         return ResponseEntity.noContent().build();
     }
 
-    // 작업 완료
+    // 작업 완료 (If-Match 버전이 다르면 412)
     @PostMapping("/{id}/complete")
-    public ResponseEntity<TaskResponse> completeTask(@PathVariable Long id) {
-        Task task = taskService.completeTask(id);
-        return ResponseEntity.ok(TaskResponse.from(task));
+    public ResponseEntity<TaskResponse> completeTask(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            return withEtag(taskService.completeTask(id, EtagUtil.parseIfMatch(ifMatch)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
 
-    // 작업 완료 취소 (Done → Ongoing)
+    // 작업 완료 취소 (Done → Ongoing, If-Match 버전이 다르면 412)
     @PostMapping("/{id}/uncomplete")
-    public ResponseEntity<TaskResponse> uncompleteTask(@PathVariable Long id) {
-        Task task = taskService.uncompleteTask(id);
-        String nextAction = taskLogService.getLatestLog(id)
-                .map(TaskLog::getNextAction)
-                .orElse(null);
-        return ResponseEntity.ok(TaskResponse.from(task, nextAction));
+    public ResponseEntity<TaskResponse> uncompleteTask(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            return withEtag(taskService.uncompleteTask(id, EtagUtil.parseIfMatch(ifMatch)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
 
-    // 작업을 Waiting 상태로 변경
+    // 작업을 Waiting 상태로 변경 (If-Match 버전이 다르면 412)
     @PostMapping("/{id}/waiting")
-    public ResponseEntity<TaskResponse> setTaskWaiting(@PathVariable Long id) {
-        Task task = taskService.setTaskWaiting(id);
-        String nextAction = taskLogService.getLatestLog(id)
-                .map(TaskLog::getNextAction)
-                .orElse(null);
-        return ResponseEntity.ok(TaskResponse.from(task, nextAction));
+    public ResponseEntity<TaskResponse> setTaskWaiting(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            return withEtag(taskService.setTaskWaiting(id, EtagUtil.parseIfMatch(ifMatch)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
 
-    // 작업을 Ongoing 상태로 활성화 (Waiting에서 활성화)
+    // 작업을 Ongoing 상태로 활성화 (Waiting에서 활성화, If-Match 버전이 다르면 412)
     @PostMapping("/{id}/activate")
-    public ResponseEntity<TaskResponse> activateTask(@PathVariable Long id) {
-        Task task = taskService.activateTask(id);
-        String nextAction = taskLogService.getLatestLog(id)
-                .map(TaskLog::getNextAction)
-                .orElse(null);
-        return ResponseEntity.ok(TaskResponse.from(task, nextAction));
+    public ResponseEntity<TaskResponse> activateTask(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        try {
+            return withEtag(taskService.activateTask(id, EtagUtil.parseIfMatch(ifMatch)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
 
     // 카테고리별 조회
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<TaskResponse>> getTasksByCategory(@PathVariable String category) {
-        List<Task> tasks = taskService.getTasksByCategory(category);
-        List<TaskResponse> responses = tasks.stream()
-                .map(task -> {
-                    String nextAction = taskLogService.getLatestLog(task.getId())
-                            .map(TaskLog::getNextAction)
-                            .orElse(null);
-                    return TaskResponse.from(task, nextAction);
-                })
+    public ResponseEntity<List<TaskResponse>> getTasksByCategory(
+            @PathVariable String category,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = boardVersion.etag();
+        if (EtagUtil.matchesIfNoneMatch(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return withBoardEtag(etag, ResponseEntity.ok(toResponses(taskService.getTasksByCategory(category))));
+    }
+
+    // 탭 캐시 키: (기준일, limit, cursor)
+    private static String cacheKey(LocalDate date, Integer limit, String cursor) {
+        return date + "|" + limit + "|" + cursor;
+    }
+
+    private static int toPageSize(Integer limit) {
+        return Math.max(1, Math.min(limit != null ? limit : DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE));
+    }
+
+    // Today/Later 커서: (due_date, created_at, id)
+    private static String dueDateCursor(Task task) {
+        return CursorUtil.encode(task.getDueDate(), task.getCreatedAt(), task.getId());
+    }
+
+    // 페이지 응답: pageSize + 1건을 받아 초과분이 있으면 페이지 마지막 항목의 커서를 헤더로 전달
+    private <T, R> ResponseEntity<List<R>> toPage(List<T> rows, int pageSize,
+                                                  Function<T, R> mapper,
+                                                  Function<T, String> cursorOf) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            response.header(NEXT_CURSOR_HEADER, cursorOf.apply(rows.get(pageSize - 1)));
+        }
+        return response.body(rows.stream().map(mapper).collect(Collectors.toList()));
+    }
+
+    // 단건 응답: 버전을 ETag 헤더로 (다음 수정 시 If-Match로 사용)
+    private static ResponseEntity<TaskResponse> withEtag(Task task) {
+        return ResponseEntity.ok()
+                .eTag(EtagUtil.format(task.getVersion()))
+                .body(TaskResponse.from(task));
+    }
+
+    // 목록 응답: 보드 버전 ETag + no-cache (브라우저가 매번 If-None-Match로 재검증)
+    // 캐시된 응답 객체는 공유되므로 헤더를 복사해 새로 만듦
+    private static <T> ResponseEntity<T> withBoardEtag(String etag, ResponseEntity<T> response) {
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(response.getBody());
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
+    // 목록 응답 변환: nextAction은 tasks.latest_next_action 컬럼에서 바로 사용
+    private List<TaskResponse> toResponses(List<Task> tasks) {
+        return tasks.stream()
+                .map(TaskResponse::from)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(responses);
     }
 }
-
@@ -1,14 +1,25 @@
 package com.eunhanlee.taskorbit.controller;
 
+import com.eunhanlee.taskorbit.dto.TaskLogPageResponse;
 import com.eunhanlee.taskorbit.dto.TaskLogRequest;
 import com.eunhanlee.taskorbit.dto.TaskLogResponse;
 import com.eunhanlee.taskorbit.entity.TaskLog;
 import com.eunhanlee.taskorbit.service.TaskLogService;
+import com.eunhanlee.taskorbit.util.CursorUtil;
+import com.eunhanlee.taskorbit.util.EtagUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,17 +30,88 @@ import java.util.stream.Collectors;
 public class TaskLogController {
 
     private final TaskLogService taskLogService;
+    private final JsonMapper jsonMapper;
+
+    private static final int MAX_PAGE_SIZE = 200;
 
     // 작업의 모든 로그 조회
     @GetMapping
     public ResponseEntity<List<TaskLogResponse>> getTaskLogs(@PathVariable Long taskId) {
         List<TaskLog> logs = taskLogService.getTaskLogs(taskId);
+        String historyLog = taskLogService.getAccumulatedHistoryLog(taskId);
         List<TaskLogResponse> responses = logs.stream()
-                .map(TaskLogResponse::from)
+                .map(log -> TaskLogResponse.from(log, historyLog))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(responses);
     }
 
+    // 작업 로그 페이지 조회 (커서 기반, historyLog는 요청 시 첫 페이지에 한 번만)
+    @GetMapping("/page")
+    public ResponseEntity<TaskLogPageResponse> getTaskLogPage(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<TaskLog> logs;
+        try {
+            logs = taskLogService.getTaskLogPage(taskId, cursor, pageSize);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        String nextCursor = null;
+        if (logs.size() > pageSize) {
+            logs = logs.subList(0, pageSize);
+            TaskLog last = logs.get(pageSize - 1);
+            nextCursor = CursorUtil.encode(last.getDate(), last.getCreatedAt(), last.getId());
+        }
+        
+        boolean firstPage = cursor == null || cursor.isBlank();
+        return ResponseEntity.ok(TaskLogPageResponse.builder()
+                .logs(logs.stream().map(TaskLogResponse::from).collect(Collectors.toList()))
+                .historyLog(includeHistory && firstPage ? taskLogService.getAccumulatedHistoryLog(taskId) : null)
+                .nextCursor(nextCursor)
+                .build());
+    }
+
+    // 작업 로그 스트리밍 (NDJSON: 한 줄에 로그 하나, historyLog는 요청 시 첫 줄에 따로: {"taskId", "historyLog"})
+    // 응답 헤더가 나간 뒤에는 상태 코드를 바꿀 수 없으므로 작업 존재 여부는 본문을 만들기 전에 확인 (없으면 404)
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTaskLogs(
+            @PathVariable Long taskId,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
+        if (!taskLogService.taskExists(taskId)) {
+            return ResponseEntity.notFound().build();
+        }
+        String historyLog = includeHistory ? taskLogService.getAccumulatedHistoryLog(taskId) : null;
+        
+        StreamingResponseBody body = outputStream -> {
+            if (includeHistory) {
+                writeLine(outputStream, TaskLogResponse.builder()
+                        .taskId(taskId)
+                        .historyLog(historyLog)
+                        .build());
+            }
+            taskLogService.streamTaskLogs(taskId, response -> {
+                try {
+                    writeLine(outputStream, response);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream outputStream, TaskLogResponse response) throws IOException {
+        outputStream.write(jsonMapper.writeValueAsBytes(response));
+        outputStream.write('\n');
+    }
+
     // 최신 로그 조회 (Next Action)
     @GetMapping("/latest")
     public ResponseEntity<TaskLogResponse> getLatestLog(@PathVariable Long taskId) {
@@ -54,11 +136,12 @@ public class TaskLogController {
                 .body(TaskLogResponse.from(created));
     }
 
-    // 로그 수정
+    // 로그 수정 (If-Match 버전이 다르면 412)
     @PutMapping("/{logId}")
     public ResponseEntity<TaskLogResponse> updateLog(
             @PathVariable Long taskId,
             @PathVariable Long logId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody TaskLogRequest request) {
         TaskLog taskLog = TaskLog.builder()
                 .date(request.getDate())
@@ -66,8 +149,16 @@ public class TaskLogController {
                 .nextAction(request.getNextAction())
                 .build();
         
-        TaskLog updated = taskLogService.updateLog(logId, taskLog);
-        return ResponseEntity.ok(TaskLogResponse.from(updated));
+        try {
+            TaskLog updated = taskLogService.updateLog(logId, taskLog, EtagUtil.parseIfMatch(ifMatch));
+            return ResponseEntity.ok()
+                    .eTag(EtagUtil.format(updated.getVersion()))
+                    .body(TaskLogResponse.from(updated));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
 
     // 로그 삭제
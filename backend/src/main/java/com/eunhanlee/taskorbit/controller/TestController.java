@@ -1,19 +1,31 @@
 package com.eunhanlee.taskorbit.controller;
 
+import com.eunhanlee.taskorbit.entity.GlobalLog;
 import com.eunhanlee.taskorbit.entity.RecurringTaskSetting;
+import com.eunhanlee.taskorbit.entity.SchedulerCheckpoint;
 import com.eunhanlee.taskorbit.entity.Task;
+import com.eunhanlee.taskorbit.entity.enums.ActionType;
 import com.eunhanlee.taskorbit.entity.enums.RecurrenceType;
 import com.eunhanlee.taskorbit.entity.enums.TaskSize;
 import com.eunhanlee.taskorbit.entity.enums.TaskStatus;
+import com.eunhanlee.taskorbit.repository.GlobalLogRepository;
+import com.eunhanlee.taskorbit.repository.RecurringTaskSettingRepository;
+import com.eunhanlee.taskorbit.repository.TaskRepository;
+import com.eunhanlee.taskorbit.service.ReadCache;
 import com.eunhanlee.taskorbit.service.RecurringTaskSettingService;
 import com.eunhanlee.taskorbit.service.SchedulerService;
+import com.eunhanlee.taskorbit.service.TaskLogService;
 import com.eunhanlee.taskorbit.service.TaskService;
+import com.eunhanlee.taskorbit.util.TaskConverter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -25,6 +37,12 @@ public class TestController {
     private final TaskService taskService;
     private final SchedulerService schedulerService;
     private final RecurringTaskSettingService recurringTaskSettingService;
+    private final TaskLogService taskLogService;
+    private final TaskRepository taskRepository;
+    private final GlobalLogRepository globalLogRepository;
+    private final RecurringTaskSettingRepository recurringTaskSettingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadCache readCache;
 
     // 테스트 데이터 생성 (GET - 브라우저 테스트용)
     @GetMapping("/seed")
@@ -75,13 +93,103 @@ public class TestController {
         return ResponseEntity.ok(response);
     }
 
+    // INSERT 처리량 측정: 반복 설정 count개를 만들고 generateRecurringTasks로 반복 작업 count건 생성,
+    // 생성된 작업의 감사 로그 count건을 JPA로 저장한 뒤 롤백 (데이터는 남지 않음)
+    // 같은 요청을 ID 생성 방식 변경 전후 커밋에서 실행해 비교
+    @PostMapping("/benchmark/inserts")
+    public ResponseEntity<Map<String, Object>> benchmarkInserts(@RequestParam(defaultValue = "10000") int count) {
+        Map<String, Object> response = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDate today = LocalDate.now();
+            List<RecurringTaskSetting> settings = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                settings.add(RecurringTaskSetting.builder()
+                        .title("벤치마크 반복 작업 " + i)
+                        .category("벤치마크")
+                        .size(TaskSize.UNDER_10_MIN)
+                        .recurrenceType(RecurrenceType.DAILY)
+                        .nextRunDate(today)
+                        .build());
+            }
+            
+            long start = System.currentTimeMillis();
+            recurringTaskSettingRepository.saveAllAndFlush(settings);
+            long settingMs = System.currentTimeMillis() - start;
+            
+            List<Long> settingIds = settings.stream().map(RecurringTaskSetting::getId).toList();
+            start = System.currentTimeMillis();
+            int generated = recurringTaskSettingService.generateRecurringTasks(today, settingIds);
+            long taskMs = System.currentTimeMillis() - start;
+            
+            List<GlobalLog> logs = taskRepository.findByRecurringSettingIdIn(settingIds).stream()
+                    .map(task -> GlobalLog.builder()
+                            .entityType("Task")
+                            .entityId(task.getId())
+                            .actionType(ActionType.CREATE)
+                            .newData(TaskConverter.taskToMap(task))
+                            .build())
+                    .toList();
+            start = System.currentTimeMillis();
+            globalLogRepository.saveAllAndFlush(logs);
+            long logMs = System.currentTimeMillis() - start;
+            
+            response.put("count", count);
+            response.put("generatedTasks", generated);
+            response.put("settingInsertMs", settingMs);
+            response.put("recurringTaskInsertMs", taskMs);
+            response.put("globalLogInsertMs", logMs);
+            response.put("rowsPerSecond", ((long) count + generated + logs.size()) * 1000 / Math.max(1, settingMs + taskMs + logMs));
+            status.setRollbackOnly();
+        });
+        return ResponseEntity.ok(response);
+    }
+
     // 스케줄러 수동 실행 (테스트용)
     @PostMapping("/scheduler/run")
-    public ResponseEntity<Map<String, String>> runScheduler() {
-        schedulerService.dailyTaskScheduler();
+    public ResponseEntity<Map<String, Object>> runScheduler() {
+        List<SchedulerCheckpoint> phases = schedulerService.runDailyTasks(LocalDate.now());
         
-        Map<String, String> response = new HashMap<>();
+        Map<String, Object> response = new HashMap<>();
         response.put("message", "Scheduler executed successfully");
+        response.put("phases", phases);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    // 누락된 날짜 따라잡기 (마지막 처리일 다음날부터 오늘까지)
+    @PostMapping("/scheduler/catch-up")
+    public ResponseEntity<Map<String, Object>> catchUpScheduler() {
+        List<SchedulerCheckpoint> phases = schedulerService.catchUp();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", phases.isEmpty() ? "No missed days" : "Scheduler caught up successfully");
+        response.put("lastProcessedDate", schedulerService.getLastProcessedDate().orElse(null));
+        response.put("phases", phases);
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 스케줄러 실행 상태 조회 (단계별 처리 행 수, 소요 시간, 완료 여부)
+    @GetMapping("/scheduler/status")
+    public ResponseEntity<List<SchedulerCheckpoint>> getSchedulerStatus(
+            @RequestParam(required = false) LocalDate date) {
+        return ResponseEntity.ok(schedulerService.getCheckpoints(date != null ? date : LocalDate.now()));
+    }
+
+    // 탭 조회 캐시 통계 (영역별 hit/miss/eviction/invalidation, 현재 항목 수)
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Map<String, Long>>> getCacheStats() {
+        return ResponseEntity.ok(readCache.stats());
+    }
+
+    // latest_next_action 재구성 (복구용)
+    @PostMapping("/next-action/rebuild")
+    public ResponseEntity<Map<String, String>> rebuildLatestNextActions() {
+        int updated = taskLogService.rebuildLatestNextActions();
+        
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Latest next actions rebuilt");
+        response.put("count", updated + " tasks updated");
         
         return ResponseEntity.ok(response);
     }
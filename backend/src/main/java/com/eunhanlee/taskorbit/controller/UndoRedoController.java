@@ -3,6 +3,9 @@ package com.eunhanlee.taskorbit.controller;
 import com.eunhanlee.taskorbit.entity.GlobalLog;
 import com.eunhanlee.taskorbit.service.GlobalLogService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,6 +16,7 @@ import java.util.Optional;
 @RestController
 @RequestMapping("/api/undo-redo")
 @RequiredArgsConstructor
+@Slf4j
 @CrossOrigin(origins = "*")
 public class UndoRedoController {
 
@@ -21,13 +25,21 @@ public class UndoRedoController {
     // Undo: 가장 최근 변경을 되돌림
     @PostMapping("/undo")
     public ResponseEntity<Map<String, Object>> undo() {
-        Optional<GlobalLog> log = globalLogService.undo();
+        Optional<GlobalLog> result;
+        try {
+            result = globalLogService.undo();
+        } catch (OptimisticLockingFailureException e) {
+            return failure(HttpStatus.CONFLICT, "Undo conflicted with a concurrent change");
+        } catch (Exception e) {
+            log.error("Error during undo operation", e);
+            return failure(HttpStatus.INTERNAL_SERVER_ERROR, "Undo failed");
+        }
         
         Map<String, Object> response = new HashMap<>();
-        if (log.isPresent()) {
+        if (result.isPresent()) {
             response.put("success", true);
             response.put("message", "Undo completed");
-            response.put("log", log.get());
+            response.put("log", result.get());
         } else {
             response.put("success", false);
             response.put("message", "No action to undo");
@@ -39,13 +51,21 @@ public class UndoRedoController {
     // Redo: 되돌린 변경을 다시 적용
     @PostMapping("/redo")
     public ResponseEntity<Map<String, Object>> redo() {
-        Optional<GlobalLog> log = globalLogService.redo();
+        Optional<GlobalLog> result;
+        try {
+            result = globalLogService.redo();
+        } catch (OptimisticLockingFailureException e) {
+            return failure(HttpStatus.CONFLICT, "Redo conflicted with a concurrent change");
+        } catch (Exception e) {
+            log.error("Error during redo operation", e);
+            return failure(HttpStatus.INTERNAL_SERVER_ERROR, "Redo failed");
+        }
         
         Map<String, Object> response = new HashMap<>();
-        if (log.isPresent()) {
+        if (result.isPresent()) {
             response.put("success", true);
             response.put("message", "Redo completed");
-            response.put("log", log.get());
+            response.put("log", result.get());
         } else {
             response.put("success", false);
             response.put("message", "No action to redo");
@@ -53,6 +73,12 @@ public class UndoRedoController {
         
         return ResponseEntity.ok(response);
     }
-}
-
 
+    // 실패 응답 (서비스 트랜잭션은 이미 롤백됨: 변경도 head 이동도 없음)
+    private static ResponseEntity<Map<String, Object>> failure(HttpStatus status, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", message);
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -0,0 +1,19 @@
+package com.eunhanlee.taskorbit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTaskOperation {
+
+    public enum Type { CREATE, UPDATE, COMPLETE, WAITING, ACTIVATE, DELETE }
+
+    private Type type;
+    private Long id; // CREATE 외 필수
+    private TaskRequest task; // CREATE, UPDATE에서 사용
+}
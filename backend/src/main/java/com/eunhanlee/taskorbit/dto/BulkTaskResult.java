@@ -0,0 +1,22 @@
+package com.eunhanlee.taskorbit.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTaskResult {
+    private int index; // 요청 operations에서의 위치
+    private BulkTaskOperation.Type type;
+    private Long id;
+    private boolean success;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private TaskResponse task; // 처리 후 작업 (DELETE, 실패 시 없음)
+}
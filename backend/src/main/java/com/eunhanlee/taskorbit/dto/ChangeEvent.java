@@ -0,0 +1,21 @@
+package com.eunhanlee.taskorbit.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEvent {
+    private Long id; // SSE 이벤트 ID (Last-Event-ID로 이어받기)
+    private String entityType; // Task, TaskLog, RecurringTaskSetting, Scheduler
+    private Long entityId;
+    private String action; // CREATE/UPDATE/DELETE, Undo/Redo, 스케줄러 단계 이름
+    private Long taskId; // TaskLog 이벤트의 작업 ID
+    private Integer count; // 스케줄러 청크에서 바뀐 행 수
+}
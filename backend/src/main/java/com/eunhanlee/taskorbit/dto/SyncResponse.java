@@ -0,0 +1,30 @@
+package com.eunhanlee.taskorbit.dto;
+
+import com.eunhanlee.taskorbit.entity.RecurringTaskSetting;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncResponse {
+    private List<TaskResponse> tasks; // 생성/수정된 작업 (현재 상태)
+    private List<TaskLogResponse> logs;
+    private List<RecurringTaskSetting> settings;
+    private List<Tombstone> deleted; // 삭제된 항목
+    private String nextCursor; // 다음 요청의 since (바뀐 것이 없으면 요청한 since 그대로)
+    private boolean hasMore; // true면 바로 nextCursor로 이어서 요청
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Tombstone {
+        private String entityType; // Task, TaskLog, RecurringTaskSetting
+        private Long id;
+    }
+}
@@ -0,0 +1,21 @@
+package com.eunhanlee.taskorbit.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskLogPageResponse {
+    private List<TaskLogResponse> logs;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String historyLog; // includeHistory=true인 첫 페이지에만 한 번 포함
+    private String nextCursor; // 다음 페이지가 없으면 null
+}
+
@@ -1,6 +1,7 @@
 package com.eunhanlee.taskorbit.dto;
 
 import com.eunhanlee.taskorbit.entity.TaskLog;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,20 +20,27 @@ public class TaskLogResponse {
     private LocalDate date;
     private String content;
     private String nextAction;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String historyLog;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public static TaskLogResponse from(TaskLog taskLog) {
+        return from(taskLog, null);
+    }
+
+    public static TaskLogResponse from(TaskLog taskLog, String historyLog) {
         return TaskLogResponse.builder()
                 .id(taskLog.getId())
                 .taskId(taskLog.getTask().getId())
                 .date(taskLog.getDate())
                 .content(taskLog.getContent())
                 .nextAction(taskLog.getNextAction())
-                .historyLog(taskLog.getHistoryLog())
+                .historyLog(historyLog)
                 .createdAt(taskLog.getCreatedAt())
                 .updatedAt(taskLog.getUpdatedAt())
+                .version(taskLog.getVersion())
                 .build();
     }
 }
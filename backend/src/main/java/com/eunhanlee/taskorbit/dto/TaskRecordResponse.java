@@ -0,0 +1,31 @@
+package com.eunhanlee.taskorbit.dto;
+
+import com.eunhanlee.taskorbit.entity.enums.TaskSize;
+import com.eunhanlee.taskorbit.entity.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Record 탭 항목: 작업 1건 + 완료 기록 집계 (필드 순서는 집계 쿼리의 생성자 표현식과 일치해야 함)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskRecordResponse {
+    private Long id;
+    private String title;
+    private String category;
+    private TaskSize size;
+    private TaskStatus status;
+    private LocalDate dueDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String nextAction; // 최신 로그의 nextAction
+    private Long completionCount;
+    private LocalDate firstCompletedDate;
+    private LocalDate lastCompletedDate;
+}
@@ -25,6 +25,7 @@ public class TaskResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String nextAction; // 최신 로그의 nextAction
+    private Long version;
 
     public static TaskResponse from(Task task, String nextAction) {
         return TaskResponse.builder()
@@ -37,11 +38,12 @@ public class TaskResponse {
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .nextAction(nextAction)
+                .version(task.getVersion())
                 .build();
     }
 
     public static TaskResponse from(Task task) {
-        return from(task, null);
+        return from(task, task.getLatestNextAction());
     }
 }
 
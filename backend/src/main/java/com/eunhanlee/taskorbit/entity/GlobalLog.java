@@ -13,6 +13,7 @@ import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.UUID;
 
 @Entity
 @Table(name = "global_logs")
@@ -24,7 +25,8 @@ import java.util.Map;
 public class GlobalLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "global_logs_id_seq")
+    @SequenceGenerator(name = "global_logs_id_seq", sequenceName = "global_logs_id_seq", allocationSize = 1)
     private Long id;
 
     @Column(nullable = false, name = "entity_type", length = 50)
@@ -45,6 +47,23 @@ public class GlobalLog {
     @Column(name = "new_data", columnDefinition = "jsonb")
     private Map<String, Object> newData;
 
+    // true면 oldData/newData에 바뀐 필드만 있음
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean delta = false;
+
+    // 같은 값의 로그들은 하나의 Undo/Redo 단위 (일괄 작업)
+    @Column(name = "group_id")
+    private UUID groupId;
+
+    // 이 로그가 적용될 때의 직전 head (Undo 시 돌아갈 위치)
+    @Column(name = "parent_log_id")
+    private Long parentLogId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean undone = false;
+
     @CreationTimestamp
     @Column(nullable = false, name = "created_at", updatable = false)
     private LocalDateTime createdAt;
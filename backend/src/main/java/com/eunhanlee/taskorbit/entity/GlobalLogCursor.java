@@ -0,0 +1,35 @@
+package com.eunhanlee.taskorbit.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// Undo/Redo 위치: 마지막으로 적용된 GlobalLog를 가리키는 단일 행
+@Entity
+@Table(name = "global_log_cursor")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GlobalLogCursor {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    // 마지막으로 적용된 로그 (모두 되돌렸으면 null)
+    @Column(name = "head_log_id")
+    private Long headLogId;
+
+    @UpdateTimestamp
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -13,6 +13,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.type.SqlTypes;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -26,7 +27,8 @@ import java.util.Map;
 public class RecurringTaskSetting {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurring_task_settings_id_seq")
+    @SequenceGenerator(name = "recurring_task_settings_id_seq", sequenceName = "recurring_task_settings_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -51,6 +53,15 @@ public class RecurringTaskSetting {
     @Builder.Default
     private Boolean isActive = true;
 
+    // 다음 생성 예정일 (비활성 또는 더 이상 반복일이 없으면 null)
+    @Column(name = "next_run_date")
+    private LocalDate nextRunDate;
+
+    // 낙관적 잠금 버전 (ETag로 노출, If-Match와 비교)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(nullable = false, name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,62 @@
+package com.eunhanlee.taskorbit.entity;
+
+import com.eunhanlee.taskorbit.entity.enums.SchedulerPhase;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduler_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "scheduler_checkpoints_id_seq")
+    @SequenceGenerator(name = "scheduler_checkpoints_id_seq", sequenceName = "scheduler_checkpoints_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, name = "run_date")
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private SchedulerPhase phase;
+
+    // 마지막으로 처리(커밋)된 청크의 최대 ID
+    @Column(nullable = false, name = "last_processed_id")
+    @Builder.Default
+    private Long lastProcessedId = 0L;
+
+    @Column(nullable = false, name = "affected_rows")
+    @Builder.Default
+    private Integer affectedRows = 0;
+
+    @Column(nullable = false, name = "duration_ms")
+    @Builder.Default
+    private Long durationMs = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean completed = false;
+
+    @CreationTimestamp
+    @Column(nullable = false, name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
+
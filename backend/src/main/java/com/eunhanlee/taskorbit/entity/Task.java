@@ -26,7 +26,8 @@ import java.util.List;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
@@ -47,6 +48,22 @@ public class Task {
     @Column(nullable = false, name = "due_date")
     private LocalDate dueDate;
 
+    // 반복 작업 설정에서 생성된 경우 설정 ID와 생성 기준일 (롤오버되어도 바뀌지 않음)
+    @Column(name = "recurring_setting_id")
+    private Long recurringSettingId;
+
+    @Column(name = "occurrence_date")
+    private LocalDate occurrenceDate;
+
+    // 최신 로그의 nextAction (TaskLogService가 로그 변경 시 갱신)
+    @Column(name = "latest_next_action", length = 500, insertable = false, updatable = false)
+    private String latestNextAction;
+
+    // 낙관적 잠금 버전 (ETag로 노출, If-Match와 비교)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(nullable = false, name = "created_at", updatable = false)
     private LocalDateTime createdAt;
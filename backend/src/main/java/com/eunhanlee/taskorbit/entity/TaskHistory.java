@@ -0,0 +1,33 @@
+package com.eunhanlee.taskorbit.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "task_histories")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskHistory {
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(nullable = false, name = "history_log", columnDefinition = "TEXT")
+    private String historyLog;
+
+    @UpdateTimestamp
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
+
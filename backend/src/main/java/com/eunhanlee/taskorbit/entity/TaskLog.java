@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class TaskLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_logs_id_seq")
+    @SequenceGenerator(name = "task_logs_id_seq", sequenceName = "task_logs_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -38,8 +39,10 @@ public class TaskLog {
     @Column(name = "next_action", length = 500)
     private String nextAction;
 
-    @Column(name = "history_log", columnDefinition = "TEXT")
-    private String historyLog;
+    // 낙관적 잠금 버전 (ETag로 노출, If-Match와 비교)
+    @Version
+    @Column(nullable = false)
+    private Long version;
 
     @CreationTimestamp
     @Column(nullable = false, name = "created_at", updatable = false)
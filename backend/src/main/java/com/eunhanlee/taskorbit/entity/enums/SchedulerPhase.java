@@ -0,0 +1,9 @@
+package com.eunhanlee.taskorbit.entity.enums;
+
+public enum SchedulerPhase {
+    ACTIVATE_WAITING,
+    MOVE_DONE_TO_RECORD,
+    ROLLOVER,
+    GENERATE_RECURRING
+}
+
@@ -0,0 +1,17 @@
+package com.eunhanlee.taskorbit.repository;
+
+import com.eunhanlee.taskorbit.entity.GlobalLogCursor;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GlobalLogCursorRepository extends JpaRepository<GlobalLogCursor, Integer> {
+
+    // 커서 행을 잠그고 조회 (로그 추가/Undo/Redo 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<GlobalLogCursor> findWithLockById(Integer id);
+}
@@ -26,6 +26,15 @@ public interface GlobalLogRepository extends JpaRepository<GlobalLog, Long> {
     // 모든 로그 (시간순 - Undo/Redo용)
     List<GlobalLog> findAllByOrderByCreatedAtDesc();
 
+    // Redo 대상: head의 자식 중 되돌려진 가장 최근 로그
+    Optional<GlobalLog> findFirstByParentLogIdAndUndoneTrueOrderByIdDesc(Long parentLogId);
+
+    // Redo 대상 (head가 없을 때): 최상위 로그 중 되돌려진 가장 최근 로그
+    Optional<GlobalLog> findFirstByParentLogIdIsNullAndUndoneTrueOrderByIdDesc();
+
+    // 특정 엔티티의 특정 시간 이전 로그 (압축용, 적용 순서)
+    List<GlobalLog> findByEntityTypeAndEntityIdAndCreatedAtBeforeOrderByIdAsc(String entityType, Long entityId, LocalDateTime dateTime);
+
     // 특정 시간 이후의 로그
     List<GlobalLog> findByCreatedAtAfterOrderByCreatedAtDesc(LocalDateTime dateTime);
 
@@ -33,6 +42,12 @@ public interface GlobalLogRepository extends JpaRepository<GlobalLog, Long> {
     @Query("SELECT gl FROM GlobalLog gl WHERE gl.createdAt BETWEEN :start AND :end ORDER BY gl.createdAt DESC")
     List<GlobalLog> findByCreatedAtBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
+    // 특정 엔티티의 마지막 전체 스냅샷(delta가 아닌 로그) 이후 쌓인 delta 로그 수
+    @Query(value = "SELECT COUNT(*) FROM global_logs WHERE entity_type = :entityType AND entity_id = :entityId AND delta " +
+            "AND id > COALESCE((SELECT MAX(id) FROM global_logs WHERE entity_type = :entityType AND entity_id = :entityId AND NOT delta), 0)",
+            nativeQuery = true)
+    long countDeltasSinceSnapshot(@Param("entityType") String entityType, @Param("entityId") Long entityId);
+
     // 특정 엔티티의 최신 로그
     @Query("SELECT gl FROM GlobalLog gl WHERE gl.entityType = :entityType AND gl.entityId = :entityId ORDER BY gl.createdAt DESC")
     Optional<GlobalLog> findTopByEntityTypeAndEntityIdOrderByCreatedAtDesc(@Param("entityType") String entityType, @Param("entityId") Long entityId);
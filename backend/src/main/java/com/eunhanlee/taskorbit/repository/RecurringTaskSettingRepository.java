@@ -3,8 +3,11 @@ package com.eunhanlee.taskorbit.repository;
 import com.eunhanlee.taskorbit.entity.RecurringTaskSetting;
 import com.eunhanlee.taskorbit.entity.enums.RecurrenceType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -24,6 +27,16 @@ public interface RecurringTaskSettingRepository extends JpaRepository<RecurringT
 
     // 카테고리별 조회
     List<RecurringTaskSetting> findByCategory(String category);
+
+    // 생성 예정일이 도래한 활성 설정 ID를 id 순으로 청크 조회 (스케줄러용)
+    @Query(value = "SELECT s.id FROM recurring_task_settings s WHERE s.is_active AND s.next_run_date <= :date " +
+            "AND s.id > :afterId ORDER BY s.id LIMIT :limit", nativeQuery = true)
+    List<Long> findDueIdsAfter(@Param("date") LocalDate date,
+                               @Param("afterId") long afterId,
+                               @Param("limit") int limit);
+
+    // next_run_date가 아직 계산되지 않은 활성 설정
+    List<RecurringTaskSetting> findByIsActiveTrueAndNextRunDateIsNull();
 }
 
 
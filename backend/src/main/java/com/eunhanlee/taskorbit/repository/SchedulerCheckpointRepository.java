@@ -0,0 +1,30 @@
+package com.eunhanlee.taskorbit.repository;
+
+import com.eunhanlee.taskorbit.entity.SchedulerCheckpoint;
+import com.eunhanlee.taskorbit.entity.enums.SchedulerPhase;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SchedulerCheckpointRepository extends JpaRepository<SchedulerCheckpoint, Long> {
+
+    // 특정 실행일의 특정 단계 체크포인트
+    Optional<SchedulerCheckpoint> findByRunDateAndPhase(LocalDate runDate, SchedulerPhase phase);
+
+    // 특정 실행일의 모든 단계 체크포인트
+    List<SchedulerCheckpoint> findByRunDateOrderByIdAsc(LocalDate runDate);
+
+    // 가장 최근 실행일의 체크포인트 1건
+    Optional<SchedulerCheckpoint> findTopByOrderByRunDateDesc();
+
+    // 특정 단계가 완료된 마지막 실행일
+    @Query("SELECT MAX(c.runDate) FROM SchedulerCheckpoint c WHERE c.phase = :phase AND c.completed = true")
+    Optional<LocalDate> findLastCompletedRunDate(@Param("phase") SchedulerPhase phase);
+}
+
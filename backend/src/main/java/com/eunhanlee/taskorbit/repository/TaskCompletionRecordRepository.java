@@ -1,13 +1,17 @@
 package com.eunhanlee.taskorbit.repository;
 
+import com.eunhanlee.taskorbit.dto.TaskRecordResponse;
 import com.eunhanlee.taskorbit.entity.Task;
 import com.eunhanlee.taskorbit.entity.TaskCompletionRecord;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,8 +36,39 @@ public interface TaskCompletionRecordRepository extends JpaRepository<TaskComple
     // 모든 완료 기록 (날짜순)
     List<TaskCompletionRecord> findAllByOrderByCompletedDateDesc();
 
+    // Record 탭 첫 페이지: 완료 기록은 작업당 1건(V17)이므로 집계 없이 (완료일, 작업 id) 내림차순
+    @Query("SELECT new com.eunhanlee.taskorbit.dto.TaskRecordResponse(" +
+            "t.id, t.title, t.category, t.size, t.status, t.dueDate, t.createdAt, t.updatedAt, t.latestNextAction, " +
+            "1L, cr.completedDate, cr.completedDate) " +
+            "FROM TaskCompletionRecord cr JOIN cr.task t " +
+            "ORDER BY cr.completedDate DESC, cr.task.id DESC")
+    List<TaskRecordResponse> findRecordPage(Limit limit);
+
+    // Record 탭 다음 페이지: 커서 (완료일, 작업 id) 이전 (WHERE 조건이라 (completed_date, task_id) 인덱스로 바로 이어 읽음)
+    @Query("SELECT new com.eunhanlee.taskorbit.dto.TaskRecordResponse(" +
+            "t.id, t.title, t.category, t.size, t.status, t.dueDate, t.createdAt, t.updatedAt, t.latestNextAction, " +
+            "1L, cr.completedDate, cr.completedDate) " +
+            "FROM TaskCompletionRecord cr JOIN cr.task t " +
+            "WHERE (cr.completedDate, cr.task.id) < (:lastCompletedDate, :taskId) " +
+            "ORDER BY cr.completedDate DESC, cr.task.id DESC")
+    List<TaskRecordResponse> findRecordPageAfterCursor(@Param("lastCompletedDate") LocalDate lastCompletedDate,
+                                                       @Param("taskId") long taskId,
+                                                       Limit limit);
+
+    // 완료 기록이 있는 작업 ID들 (지정한 작업 중)
+    @Query("SELECT cr.task.id FROM TaskCompletionRecord cr WHERE cr.task.id IN :taskIds")
+    List<Long> findTaskIdsByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
     // 특정 작업의 완료 기록 존재 여부
     boolean existsByTaskId(Long taskId);
+
+    // 완료 기록이 없는 DONE 작업들의 완료 기록 일괄 생성
+    @Modifying
+    @Query(value = "INSERT INTO task_completion_records (task_id, completed_date) " +
+            "SELECT t.id, :completedDate FROM tasks t WHERE t.id IN (:taskIds) AND t.status = 'DONE' " +
+            "ON CONFLICT (task_id) DO NOTHING", nativeQuery = true)
+    int insertMissingForDoneTasks(@Param("taskIds") List<Long> taskIds,
+                                  @Param("completedDate") LocalDate completedDate);
 }
 
 
@@ -0,0 +1,32 @@
+package com.eunhanlee.taskorbit.repository;
+
+import com.eunhanlee.taskorbit.entity.TaskHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskHistoryRepository extends JpaRepository<TaskHistory, Long> {
+
+    // History Log 끝에 항목 추가 (없으면 생성)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO task_histories (task_id, history_log) VALUES (:taskId, :entry) " +
+            "ON CONFLICT (task_id) DO UPDATE SET history_log = CASE " +
+            "WHEN task_histories.history_log = '' THEN EXCLUDED.history_log " +
+            "ELSE task_histories.history_log || E'\\n\\n' || EXCLUDED.history_log END, " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int appendEntry(@Param("taskId") Long taskId, @Param("entry") String entry);
+
+    // 특정 작업의 History Log를 task_logs 기준으로 DB 안에서 재구성
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO task_histories (task_id, history_log) " +
+            "SELECT :taskId, COALESCE((SELECT string_agg(to_char(tl.date, 'YYYY-MM-DD') || E':\\n' || tl.content, " +
+            "E'\\n\\n' ORDER BY tl.date, tl.created_at) FROM task_logs tl " +
+            "WHERE tl.task_id = :taskId AND btrim(tl.content, E' \\t\\r\\n') <> ''), '') " +
+            "ON CONFLICT (task_id) DO UPDATE SET history_log = EXCLUDED.history_log, " +
+            "updated_at = CURRENT_TIMESTAMP", nativeQuery = true)
+    int rebuild(@Param("taskId") Long taskId);
+}
+
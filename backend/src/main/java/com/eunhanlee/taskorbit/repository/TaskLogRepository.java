@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,24 @@ public interface TaskLogRepository extends JpaRepository<TaskLog, Long> {
     @Query("SELECT tl FROM TaskLog tl WHERE tl.task.id = :taskId ORDER BY tl.date DESC, tl.createdAt DESC")
     List<TaskLog> findLatestLogsByTaskId(@Param("taskId") Long taskId);
 
+    // 특정 작업의 최신 로그 1건
+    Optional<TaskLog> findFirstByTaskIdOrderByDateDescCreatedAtDesc(Long taskId);
+
+    // 특정 작업의 로그 첫 페이지 (date, created_at, id 내림차순)
+    @Query(value = "SELECT tl.* FROM task_logs tl WHERE tl.task_id = :taskId " +
+            "ORDER BY tl.date DESC, tl.created_at DESC, tl.id DESC LIMIT :limit", nativeQuery = true)
+    List<TaskLog> findPageByTaskId(@Param("taskId") Long taskId, @Param("limit") int limit);
+
+    // 특정 작업의 로그 다음 페이지 (커서 이후)
+    @Query(value = "SELECT tl.* FROM task_logs tl WHERE tl.task_id = :taskId " +
+            "AND (tl.date, tl.created_at, tl.id) < (:date, :createdAt, :id) " +
+            "ORDER BY tl.date DESC, tl.created_at DESC, tl.id DESC LIMIT :limit", nativeQuery = true)
+    List<TaskLog> findPageByTaskIdAfterCursor(@Param("taskId") Long taskId,
+                                              @Param("date") LocalDate date,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              @Param("limit") int limit);
+
     // 특정 작업의 특정 날짜 로그
     Optional<TaskLog> findByTaskAndDate(Task task, LocalDate date);
 
@@ -30,6 +49,9 @@ public interface TaskLogRepository extends JpaRepository<TaskLog, Long> {
     // 특정 날짜의 모든 로그
     List<TaskLog> findByDate(LocalDate date);
 
+    // 특정 날짜보다 늦은 로그 존재 여부
+    boolean existsByTaskIdAndDateGreaterThan(Long taskId, LocalDate date);
+
     // 특정 작업의 로그 개수
     long countByTask(Task task);
 }
@@ -3,11 +3,13 @@ package com.eunhanlee.taskorbit.repository;
 import com.eunhanlee.taskorbit.entity.Task;
 import com.eunhanlee.taskorbit.entity.enums.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,10 +27,56 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     // Done 탭: status가 DONE인 작업들
     List<Task> findByStatusOrderByUpdatedAtDesc(TaskStatus status);
 
+    // 반복 설정들에서 생성된 작업
+    List<Task> findByRecurringSettingIdIn(List<Long> recurringSettingIds);
+
     // Record 탭: 완료 기록이 있는 작업들 (TaskCompletionRecord와 조인)
     @Query("SELECT DISTINCT t FROM Task t INNER JOIN t.completionRecords cr ORDER BY cr.completedDate DESC")
     List<Task> findCompletedTasks();
 
+    // Today 탭 첫 페이지: (due_date, created_at, id) 오름차순
+    @Query(value = "SELECT t.* FROM tasks t WHERE t.due_date <= :date AND t.status <> 'DONE' " +
+            "ORDER BY t.due_date, t.created_at, t.id LIMIT :limit", nativeQuery = true)
+    List<Task> findTodayPage(@Param("date") LocalDate date, @Param("limit") int limit);
+
+    // Today 탭 다음 페이지: 커서 (due_date, created_at, id) 이후
+    @Query(value = "SELECT t.* FROM tasks t WHERE t.due_date <= :date AND t.status <> 'DONE' " +
+            "AND (t.due_date, t.created_at, t.id) > (:dueDate, :createdAt, :id) " +
+            "ORDER BY t.due_date, t.created_at, t.id LIMIT :limit", nativeQuery = true)
+    List<Task> findTodayPageAfterCursor(@Param("date") LocalDate date,
+                                        @Param("dueDate") LocalDate dueDate,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") long id,
+                                        @Param("limit") int limit);
+
+    // Later 탭 첫 페이지: (due_date, created_at, id) 오름차순
+    @Query(value = "SELECT t.* FROM tasks t WHERE t.due_date > :date " +
+            "ORDER BY t.due_date, t.created_at, t.id LIMIT :limit", nativeQuery = true)
+    List<Task> findLaterPage(@Param("date") LocalDate date, @Param("limit") int limit);
+
+    // Later 탭 다음 페이지: 커서 (due_date, created_at, id) 이후
+    @Query(value = "SELECT t.* FROM tasks t WHERE t.due_date > :date " +
+            "AND (t.due_date, t.created_at, t.id) > (:dueDate, :createdAt, :id) " +
+            "ORDER BY t.due_date, t.created_at, t.id LIMIT :limit", nativeQuery = true)
+    List<Task> findLaterPageAfterCursor(@Param("date") LocalDate date,
+                                        @Param("dueDate") LocalDate dueDate,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") long id,
+                                        @Param("limit") int limit);
+
+    // Done 탭 첫 페이지: (updated_at, id) 내림차순
+    @Query(value = "SELECT t.* FROM tasks t WHERE t.status = 'DONE' " +
+            "ORDER BY t.updated_at DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<Task> findDonePage(@Param("limit") int limit);
+
+    // Done 탭 다음 페이지: 커서 (updated_at, id) 이전
+    @Query(value = "SELECT t.* FROM tasks t WHERE t.status = 'DONE' " +
+            "AND (t.updated_at, t.id) < (:updatedAt, :id) " +
+            "ORDER BY t.updated_at DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<Task> findDonePageAfterCursor(@Param("updatedAt") LocalDateTime updatedAt,
+                                       @Param("id") long id,
+                                       @Param("limit") int limit);
+
     // 특정 날짜의 작업들
     List<Task> findByDueDate(LocalDate dueDate);
 
@@ -44,5 +92,48 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     // 상태별 조회
     List<Task> findByStatus(TaskStatus status);
 
+    // 특정 상태 작업 ID를 id 순으로 청크 조회 (스케줄러용)
+    @Query(value = "SELECT t.id FROM tasks t WHERE t.status = :status AND t.id > :afterId " +
+            "ORDER BY t.id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByStatusAfter(@Param("status") String status,
+                                    @Param("afterId") long afterId,
+                                    @Param("limit") int limit);
+
+    // 롤오버 대상(미완료, due_date <= date) 작업 ID 청크 조회
+    @Query(value = "SELECT t.id FROM tasks t WHERE t.due_date <= :date AND t.status <> 'DONE' " +
+            "AND t.id > :afterId ORDER BY t.id LIMIT :limit", nativeQuery = true)
+    List<Long> findIncompleteIdsDueBy(@Param("date") LocalDate date,
+                                      @Param("afterId") long afterId,
+                                      @Param("limit") int limit);
+
+    // Waiting → Ongoing 일괄 변경
+    @Modifying
+    @Query("UPDATE Task t SET t.status = 'ONGOING', t.version = t.version + 1 WHERE t.id IN :ids AND t.status = 'WAITING'")
+    int activateWaitingTasks(@Param("ids") List<Long> ids);
+
+    // 미완료 작업의 due_date 일괄 롤오버
+    @Modifying
+    @Query("UPDATE Task t SET t.dueDate = :tomorrow, t.version = t.version + 1 " +
+            "WHERE t.id IN :ids AND t.dueDate <= :today AND t.status != 'DONE'")
+    int rolloverIncompleteTasks(@Param("ids") List<Long> ids,
+                                @Param("today") LocalDate today,
+                                @Param("tomorrow") LocalDate tomorrow);
+
+    // 특정 작업의 latest_next_action 갱신 (최신 로그 기준)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE tasks t SET latest_next_action = (" +
+            "SELECT tl.next_action FROM task_logs tl WHERE tl.task_id = t.id " +
+            "ORDER BY tl.date DESC, tl.created_at DESC LIMIT 1) " +
+            "WHERE t.id = :taskId", nativeQuery = true)
+    int refreshLatestNextAction(@Param("taskId") Long taskId);
+
+    // 전체 latest_next_action 재구성 (값이 다른 행만 갱신)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE tasks t SET latest_next_action = l.next_action FROM (" +
+            "SELECT t2.id, (SELECT tl.next_action FROM task_logs tl WHERE tl.task_id = t2.id " +
+            "ORDER BY tl.date DESC, tl.created_at DESC LIMIT 1) AS next_action FROM tasks t2) l " +
+            "WHERE l.id = t.id AND t.latest_next_action IS DISTINCT FROM l.next_action", nativeQuery = true)
+    int rebuildLatestNextActions();
+
 }
 
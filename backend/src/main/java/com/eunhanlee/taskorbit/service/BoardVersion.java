@@ -0,0 +1,36 @@
+package com.eunhanlee.taskorbit.service;
+
+import com.eunhanlee.taskorbit.util.EtagUtil;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보드 버전: 작업/작업 로그/반복 설정이 바뀌어 커밋될 때마다 증가 (ReadCache 무효화와 함께)
+ * 목록 응답의 ETag로 사용해 If-None-Match가 같으면 조회 없이 304 응답.
+ * 시작값은 기동 시각(ms)이라 재시작 전에 받은 ETag와 겹치지 않음 (프로세스 단위 값).
+ */
+@Component
+public class BoardVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    // 목록 응답 ETag 값
+    public String etag() {
+        return EtagUtil.format(current());
+    }
+
+    // 기준일에 따라 내용이 바뀌는 목록(Today/Later)용: 날짜가 넘어가면 버전이 같아도 다른 ETag
+    public String etag(LocalDate date) {
+        return "\"" + current() + "-" + date + "\"";
+    }
+
+    public long increment() {
+        return version.incrementAndGet();
+    }
+}
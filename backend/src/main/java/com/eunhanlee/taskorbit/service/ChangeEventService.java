@@ -0,0 +1,207 @@
+package com.eunhanlee.taskorbit.service;
+
+import com.eunhanlee.taskorbit.dto.ChangeEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 변경 이벤트 스트림 (SSE, GET /api/events)
+ * 쓰기 경로(GlobalLog 기록 지점, Undo/Redo, 스케줄러 청크)가 커밋 후 이벤트를 발행하면 모든 연결에 전달.
+ * 연결마다 크기 제한 버퍼를 두고 가상 스레드가 보냄: 느린 연결은 발행 스레드를 막지 않고,
+ * 버퍼가 넘치면 쌓인 이벤트를 버리고 resync 이벤트(전체 다시 조회)를 보냄.
+ * 최근 이벤트는 replay-size개까지 보관해 Last-Event-ID로 이어받고, 범위 밖이면 resync.
+ * 대기 중인 연결은 서블릿 비동기 요청이라 스레드를 점유하지 않음. 프로세스 단위 (단일 인스턴스 기준).
+ */
+@Service
+public class ChangeEventService {
+
+    public static final String CHANGE = "change";
+    public static final String RESYNC = "resync";
+
+    @Value("${events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${events.replay-size:1000}")
+    private int replaySize;
+
+    @Value("${events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    // 시작값은 기동 시각(ms): 재시작 전의 Last-Event-ID는 항상 범위 밖 → resync
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final Deque<ChangeEvent> recent = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 버퍼 항목: 변경 이벤트 외에 heartbeat 주석, resync 알림
+    private static final Object HEARTBEAT = new Object();
+
+    private record Resync(long lastId) {
+    }
+
+    // 이벤트 발행: 트랜잭션 안이면 커밋 후 (롤백되면 보내지 않음)
+    public void publish(ChangeEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(event);
+                }
+            });
+        } else {
+            broadcast(event);
+        }
+    }
+
+    public void publish(String entityType, Long entityId, String action) {
+        publish(ChangeEvent.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .action(action)
+                .build());
+    }
+
+    /**
+     * 연결 등록
+     * lastEventId가 있으면 그 뒤의 보관된 이벤트를 먼저 보내고, 보관 범위 밖이면 resync
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        subscriber.offer(HEARTBEAT);
+        synchronized (recent) {
+            Long lastId = parseEventId(lastEventId);
+            if (lastId != null) {
+                long current = sequence.get();
+                long oldest = recent.isEmpty() ? current + 1 : recent.peekFirst().getId();
+                if (lastId > current || lastId < oldest - 1) {
+                    subscriber.offer(new Resync(current));
+                } else {
+                    recent.stream().filter(event -> event.getId() > lastId).forEach(subscriber::offer);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // 주기적으로 주석 한 줄을 보내 프록시/브라우저가 유휴 연결을 끊지 않게 하고, 끊긴 연결을 정리
+    @Scheduled(fixedDelayString = "${events.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+
+    // ID 부여와 보관, 연결별 버퍼 추가를 한 번에 (모든 연결이 같은 순서로 받음)
+    private void broadcast(ChangeEvent event) {
+        synchronized (recent) {
+            event.setId(sequence.incrementAndGet());
+            recent.addLast(event);
+            while (recent.size() > replaySize) {
+                recent.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // 버퍼가 가득 차면 쌓인 항목을 버리고 resync 하나로 대체
+        void offer(Object item) {
+            if (!buffer.offer(item)) {
+                buffer.clear();
+                buffer.offer(new Resync(sequence.get()));
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        // 버퍼를 비울 때까지 전송 (연결당 전송 작업은 한 번에 하나)
+        private void drain() {
+            do {
+                Object item;
+                while ((item = buffer.poll()) != null) {
+                    try {
+                        emitter.send(toSse(item));
+                    } catch (IOException | IllegalStateException e) {
+                        // 끊긴 연결: 컨테이너가 완료 처리하므로 목록에서만 제거
+                        subscribers.remove(this);
+                        buffer.clear();
+                        draining.set(false);
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!buffer.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private SseEmitter.SseEventBuilder toSse(Object item) {
+            if (item == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            if (item instanceof Resync resync) {
+                return SseEmitter.event()
+                        .id(String.valueOf(resync.lastId()))
+                        .name(RESYNC)
+                        .data("{}");
+            }
+            ChangeEvent event = (ChangeEvent) item;
+            return SseEmitter.event()
+                    .id(String.valueOf(event.getId()))
+                    .name(CHANGE)
+                    .data(event, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.eunhanlee.taskorbit.service;
+
+import com.eunhanlee.taskorbit.entity.GlobalLog;
+import com.eunhanlee.taskorbit.entity.enums.ActionType;
+import com.eunhanlee.taskorbit.repository.GlobalLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * global_logs 월별 파티션 관리
+ * 1. 앞으로 쓸 월 파티션 미리 생성
+ * 2. Undo 범위(undo-window-days) 밖의 로그로 이어지는 parent_log_id를 끊음 → Undo가 닿는 로그는 모두 범위 안
+ * 3. 범위 밖의 로그는 엔티티별로 스냅샷 한 행으로 압축
+ * 4. 보존 기간(retention-months)이 지난 파티션은 DROP (Undo 범위와 겹치는 파티션은 유지)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GlobalLogMaintenanceService {
+
+    private final GlobalLogRepository globalLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+
+    @Value("${audit.partition-months-ahead:2}")
+    private int partitionMonthsAhead;
+
+    @Value("${audit.undo-window-days:30}")
+    private int undoWindowDays;
+
+    @Value("${audit.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${audit.compaction-batch-size:500}")
+    private int compactionBatchSize;
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("global_logs_y(\\d{4})m(\\d{2})");
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            ensurePartitions();
+        } catch (Exception e) {
+            log.error("Error creating global_logs partitions", e);
+        }
+    }
+
+    /**
+     * 매일 4시 30분 AM: 파티션 생성, Undo 범위 정리, 압축, 보존 기간 지난 파티션 삭제
+     */
+    @Scheduled(cron = "0 30 4 * * ?")
+    public void runMaintenance() {
+        try {
+            ensurePartitions();
+            LocalDateTime windowStart = LocalDateTime.now().minusDays(undoWindowDays);
+            trimUndoChain(windowStart);
+            compactBefore(windowStart);
+            dropExpiredPartitions(windowStart);
+        } catch (Exception e) {
+            log.error("Error in global_logs maintenance", e);
+        }
+    }
+
+    // 이번 달부터 partition-months-ahead개월 뒤까지 월 파티션 생성
+    public void ensurePartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= partitionMonthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF global_logs FOR VALUES FROM ('%s') TO ('%s')",
+                    partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+        }
+    }
+
+    // Undo 범위 밖으로 이어지는 연결을 끊음 (head가 범위 밖이면 Undo할 것이 없는 상태로)
+    public void trimUndoChain(LocalDateTime windowStart) {
+        Timestamp start = Timestamp.valueOf(windowStart);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE global_log_cursor SET head_log_id = NULL " +
+                    "WHERE head_log_id IN (SELECT id FROM global_logs WHERE created_at < ?)", start);
+            int trimmed = jdbcTemplate.update("UPDATE global_logs c SET parent_log_id = NULL " +
+                    "FROM global_logs p WHERE p.id = c.parent_log_id AND p.created_at < ? AND c.created_at >= ?",
+                    start, start);
+            log.info("Trimmed undo chain at {} ({} links)", windowStart, trimmed);
+        });
+    }
+
+    /**
+     * Undo 범위 밖의 로그를 엔티티별 스냅샷 한 행으로 압축
+     * 되돌려진(undone) 로그는 적용되지 않은 변경이므로 합치지 않고 삭제 (범위 밖이라 Redo 대상도 아님)
+     * 남은 로그를 순서대로 합쳐 최종 상태를 만들고, 원래 행들은 삭제
+     */
+    public int compactBefore(LocalDateTime windowStart) {
+        Timestamp start = Timestamp.valueOf(windowStart);
+        Integer undone = transactionTemplate.execute(status ->
+                jdbcTemplate.update("DELETE FROM global_logs WHERE created_at < ? AND undone", start));
+        log.info("Deleted {} undone global_logs before {}", undone, windowStart);
+
+        int compactedEntities = 0;
+        while (true) {
+            List<Map<String, Object>> entities = jdbcTemplate.queryForList(
+                    "SELECT entity_type, entity_id FROM global_logs WHERE created_at < ? AND NOT undone " +
+                    "GROUP BY entity_type, entity_id HAVING COUNT(*) > 1 LIMIT ?",
+                    start, compactionBatchSize);
+            if (entities.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Map<String, Object> entity : entities) {
+                    compactEntity((String) entity.get("entity_type"), ((Number) entity.get("entity_id")).longValue(), windowStart);
+                }
+            });
+            compactedEntities += entities.size();
+        }
+        log.info("Compacted global_logs history of {} entities before {}", compactedEntities, windowStart);
+        return compactedEntities;
+    }
+
+    // 보존 기간이 지난 월 파티션 DROP (Undo 범위 시작 이후가 포함된 파티션은 유지)
+    public int dropExpiredPartitions(LocalDateTime windowStart) {
+        LocalDate retentionCutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1);
+        LocalDate cutoff = retentionCutoff.isBefore(windowStart.toLocalDate()) ? retentionCutoff : windowStart.toLocalDate();
+
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = 'global_logs'", String.class);
+        int dropped = 0;
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("Dropped expired global_logs partition {}", partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    private void compactEntity(String entityType, Long entityId, LocalDateTime windowStart) {
+        List<GlobalLog> all = globalLogRepository
+                .findByEntityTypeAndEntityIdAndCreatedAtBeforeOrderByIdAsc(entityType, entityId, windowStart);
+        List<GlobalLog> undone = all.stream().filter(GlobalLog::getUndone).toList();
+        List<GlobalLog> logs = all.stream().filter(entry -> !entry.getUndone()).toList();
+        if (!undone.isEmpty()) {
+            globalLogRepository.deleteAllInBatch(undone);
+        }
+        if (logs.size() < 2) {
+            return;
+        }
+
+        GlobalLog first = logs.get(0);
+        GlobalLog last = logs.get(logs.size() - 1);
+
+        // 최종 상태 계산: 전체 스냅샷은 교체, delta는 덮어쓰기
+        // 전체 스냅샷(CREATE, DELETE 이전 상태, delta가 아닌 UPDATE)을 하나도 합치지 못했으면 결과도 일부 필드뿐이므로 delta로 기록
+        Map<String, Object> state = null;
+        boolean full = false;
+        for (GlobalLog entry : logs) {
+            if (entry.getActionType() == ActionType.DELETE) {
+                if (entry.getOldData() != null) {
+                    state = new HashMap<>(entry.getOldData());
+                    full = true;
+                }
+            } else if (entry.getNewData() != null) {
+                if (!entry.getDelta()) {
+                    state = new HashMap<>(entry.getNewData());
+                    full = true;
+                } else if (state == null) {
+                    state = new HashMap<>(entry.getNewData());
+                } else {
+                    state.putAll(entry.getNewData());
+                }
+            }
+        }
+
+        ActionType actionType;
+        Map<String, Object> oldData;
+        Map<String, Object> newData;
+        if (last.getActionType() == ActionType.DELETE) {
+            actionType = ActionType.DELETE;
+            oldData = state;
+            newData = null;
+        } else {
+            actionType = first.getActionType() == ActionType.CREATE ? ActionType.CREATE : ActionType.UPDATE;
+            oldData = first.getActionType() == ActionType.CREATE ? null : first.getOldData();
+            newData = state;
+        }
+
+        globalLogRepository.deleteAllInBatch(logs);
+        jdbcTemplate.update("INSERT INTO global_logs (entity_type, entity_id, action_type, old_data, new_data, delta, created_at) " +
+                        "VALUES (?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb), ?, ?)",
+                entityType, entityId, actionType.name(),
+                oldData != null ? jsonMapper.writeValueAsString(oldData) : null,
+                newData != null ? jsonMapper.writeValueAsString(newData) : null,
+                !full,
+                Timestamp.valueOf(last.getCreatedAt()));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("global_logs_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -1,23 +1,34 @@
 package com.eunhanlee.taskorbit.service;
 
 import com.eunhanlee.taskorbit.entity.GlobalLog;
+import com.eunhanlee.taskorbit.entity.GlobalLogCursor;
 import com.eunhanlee.taskorbit.entity.Task;
 import com.eunhanlee.taskorbit.entity.TaskCompletionRecord;
 import com.eunhanlee.taskorbit.entity.enums.ActionType;
 import com.eunhanlee.taskorbit.entity.enums.TaskSize;
 import com.eunhanlee.taskorbit.entity.enums.TaskStatus;
+import com.eunhanlee.taskorbit.repository.GlobalLogCursorRepository;
 import com.eunhanlee.taskorbit.repository.GlobalLogRepository;
 import com.eunhanlee.taskorbit.repository.TaskCompletionRecordRepository;
 import com.eunhanlee.taskorbit.repository.TaskRepository;
+import com.eunhanlee.taskorbit.util.TaskConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -26,10 +37,21 @@ import java.util.Optional;
 public class GlobalLogService {
 
     private final GlobalLogRepository globalLogRepository;
+    private final GlobalLogCursorRepository globalLogCursorRepository;
+    private final GlobalLogWriter globalLogWriter;
     private final TaskRepository taskRepository;
     private final TaskCompletionRecordRepository completionRecordRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadCache readCache;
+    private final ChangeEventService changeEventService;
 
-    // 로그 생성
+    @Value("${audit.snapshot-interval:20}")
+    private int snapshotInterval;
+
+    // 로그 생성: 현재 head 위에 쌓고 head를 새 로그로 이동 (되돌린 로그들은 더 이상 Redo 대상이 아님)
+    // audit.mode=ASYNC이면 커밋 후 GlobalLogWriter가 일괄 기록 (반환값은 아직 ID 없는 항목)
+    // UPDATE는 바뀐 필드만 저장하고, 엔티티마다 audit.snapshot-interval번째 UPDATE는 전체 스냅샷 저장
+    // TRIGGER 모드(audit_settings.capture_mode)이면 DB 트리거가 이미 기록하므로 아무것도 하지 않음
     @Transactional
     public GlobalLog createLog(String entityType, Long entityId, ActionType actionType, 
                                Map<String, Object> oldData, Map<String, Object> newData) {
@@ -41,7 +63,46 @@ public class GlobalLogService {
                 .newData(newData)
                 .build();
         
-        return globalLogRepository.save(log);
+        if (!capturesInApp() || !encode(log, new HashMap<>())) {
+            // 바뀐 필드가 없으면 Undo할 것도 없으므로 기록하지 않음
+            return log;
+        }
+        append(List.of(log));
+        return log;
+    }
+
+    // 여러 로그를 하나의 Undo 단위로 기록 (같은 group_id, head 체인에 연속으로 쌓임)
+    @Transactional
+    public List<GlobalLog> createLogGroup(List<GlobalLog> entries) {
+        if (!capturesInApp()) {
+            return List.of();
+        }
+        UUID groupId = UUID.randomUUID();
+        List<GlobalLog> logs = new ArrayList<>(entries.size());
+        Map<String, Long> deltaDepths = new HashMap<>();
+        for (GlobalLog entry : entries) {
+            if (encode(entry, deltaDepths)) {
+                entry.setGroupId(groupId);
+                logs.add(entry);
+            }
+        }
+        if (!logs.isEmpty()) {
+            append(logs);
+        }
+        return logs;
+    }
+
+    // 감사 로그를 앱에서 만드는지 (TRIGGER 모드면 DB 트리거가 기록하므로 스냅샷 Map을 만들 필요 없음)
+    public boolean capturesInApp() {
+        return !globalLogWriter.isTrigger();
+    }
+
+    // 현재 트랜잭션의 변경은 감사 전용으로 기록 (TRIGGER 모드: Undo 대상에서 제외, 스케줄러 등 시스템 변경용)
+    @Transactional
+    public void markSystemChanges() {
+        if (globalLogWriter.isTrigger()) {
+            setLocal("taskorbit.audit_undoable", "off");
+        }
     }
 
     // 특정 엔티티의 모든 로그 조회
@@ -59,15 +120,20 @@ public class GlobalLogService {
         return globalLogRepository.findTopByEntityTypeAndEntityIdOrderByCreatedAtDesc(entityType, entityId);
     }
 
-    // Undo: 가장 최근 변경을 되돌림
+    // Undo: head 로그를 되돌리고 head를 부모 로그로 이동 (기록 전체를 읽지 않음)
+    // 묶음(group_id) 로그면 같은 묶음의 로그를 모두 되돌림
+    // 묶음 전체가 한 트랜잭션: 중간에 실패하면 예외를 그대로 던져 복원과 head 이동을 모두 롤백
     @Transactional
     public Optional<GlobalLog> undo() {
-        List<GlobalLog> logs = getAllLogs();
-        if (logs.isEmpty()) {
+        globalLogWriter.flush();
+        skipTriggerCapture();
+        GlobalLogCursor cursor = lockCursor();
+        if (cursor.getHeadLogId() == null) {
             return Optional.empty();
         }
         
-        GlobalLog latestLog = logs.get(0);
+        GlobalLog latestLog = globalLogRepository.findById(cursor.getHeadLogId())
+                .orElseThrow(() -> new RuntimeException("GlobalLog not found with id: " + cursor.getHeadLogId()));
         
         // Task 엔티티만 지원 (현재)
         if (!"Task".equals(latestLog.getEntityType())) {
@@ -75,116 +141,208 @@ public class GlobalLogService {
             return Optional.empty();
         }
         
-        try {
-            // GlobalLog 생성 방지를 위한 플래그 설정 (restoreTaskFromMap에서 사용)
-            switch (latestLog.getActionType()) {
-                case CREATE:
-                    // 생성된 작업 삭제 (TaskCompletionRecord는 자동으로 삭제됨 - CASCADE)
-                    taskRepository.deleteById(latestLog.getEntityId());
-                    log.info("Undo CREATE: Deleted task {}", latestLog.getEntityId());
-                    break;
-                    
-                case UPDATE:
-                    // oldData로 복원 (GlobalLog 생성 없이 직접 복원)
-                    restoreTaskFromMap(latestLog.getEntityId(), latestLog.getOldData(), false);
-                    log.info("Undo UPDATE: Restored task {} from old data", latestLog.getEntityId());
-                    break;
-                    
-                case DELETE:
-                    // newData로 복원 (삭제 전 데이터)
-                    restoreTaskFromMap(latestLog.getEntityId(), latestLog.getNewData(), false);
-                    log.info("Undo DELETE: Restored task {} from new data", latestLog.getEntityId());
-                    break;
-            }
+        readCache.invalidate(ReadCache.TASK_REGIONS);
+        GlobalLog current = latestLog;
+        while (true) {
+            revert(current);
+            changeEventService.publish(current.getEntityType(), current.getEntityId(), "UNDO");
+            // Undo된 로그는 삭제하지 않고 표시만 (Redo를 위해)
+            current.setUndone(true);
+            cursor.setHeadLogId(current.getParentLogId());
             
-            // Undo된 로그는 삭제하지 않고 유지 (Redo를 위해)
-            return Optional.of(latestLog);
-        } catch (Exception e) {
-            log.error("Error during undo operation", e);
-            return Optional.empty();
+            if (current.getGroupId() == null || current.getParentLogId() == null) {
+                break;
+            }
+            Optional<GlobalLog> parent = globalLogRepository.findById(current.getParentLogId());
+            if (parent.isEmpty() || !current.getGroupId().equals(parent.get().getGroupId())) {
+                break;
+            }
+            current = parent.get();
         }
+        return Optional.of(latestLog);
     }
 
-    // Redo: 되돌린 변경을 다시 적용
+    // Redo: head 바로 다음에 되돌려진 로그를 다시 적용하고 head를 그 로그로 이동
+    // 묶음(group_id) 로그면 같은 묶음의 로그를 모두 다시 적용 (실패하면 예외, 전체 롤백)
     @Transactional
     public Optional<GlobalLog> redo() {
-        // 최근 undo된 로그를 다시 적용
-        List<GlobalLog> logs = getAllLogs();
-        if (logs.isEmpty()) {
+        globalLogWriter.flush();
+        skipTriggerCapture();
+        GlobalLogCursor cursor = lockCursor();
+        Optional<GlobalLog> next = findRedoTarget(cursor.getHeadLogId());
+        if (next.isEmpty()) {
             return Optional.empty();
         }
         
-        GlobalLog latestLog = logs.get(0);
+        GlobalLog latestLog = next.get();
         
         if (!"Task".equals(latestLog.getEntityType())) {
             log.warn("Redo not supported for entity type: {}", latestLog.getEntityType());
             return Optional.empty();
         }
         
-        try {
-            switch (latestLog.getActionType()) {
-                case CREATE:
-                    // newData로 다시 생성
-                    restoreTaskFromMap(latestLog.getEntityId(), latestLog.getNewData(), false);
-                    log.info("Redo CREATE: Recreated task {}", latestLog.getEntityId());
-                    break;
-                    
-                case UPDATE:
-                    // newData로 다시 적용
-                    restoreTaskFromMap(latestLog.getEntityId(), latestLog.getNewData(), false);
-                    log.info("Redo UPDATE: Reapplied task {} with new data", latestLog.getEntityId());
-                    break;
-                    
-                case DELETE:
-                    // 다시 삭제
-                    taskRepository.deleteById(latestLog.getEntityId());
-                    log.info("Redo DELETE: Deleted task {}", latestLog.getEntityId());
-                    break;
-            }
+        readCache.invalidate(ReadCache.TASK_REGIONS);
+        GlobalLog current = latestLog;
+        while (true) {
+            reapply(current);
+            changeEventService.publish(current.getEntityType(), current.getEntityId(), "REDO");
+            current.setUndone(false);
+            cursor.setHeadLogId(current.getId());
             
-            return Optional.of(latestLog);
-        } catch (Exception e) {
-            log.error("Error during redo operation", e);
-            return Optional.empty();
+            if (current.getGroupId() == null) {
+                break;
+            }
+            Optional<GlobalLog> child = findRedoTarget(current.getId());
+            if (child.isEmpty() || !current.getGroupId().equals(child.get().getGroupId())) {
+                break;
+            }
+            current = child.get();
         }
+        return Optional.of(latestLog);
+    }
+    
+    // 로그 하나 되돌리기 (GlobalLog 생성 없이 직접 복원)
+    private void revert(GlobalLog globalLog) {
+        switch (globalLog.getActionType()) {
+            case CREATE:
+                // 생성된 작업 삭제 (TaskCompletionRecord는 자동으로 삭제됨 - CASCADE)
+                taskRepository.deleteById(globalLog.getEntityId());
+                log.info("Undo CREATE: Deleted task {}", globalLog.getEntityId());
+                break;
+                
+            case UPDATE:
+                // oldData로 복원
+                restoreTaskFromMap(globalLog.getEntityId(), globalLog.getOldData(), false);
+                log.info("Undo UPDATE: Restored task {} from old data", globalLog.getEntityId());
+                break;
+                
+            case DELETE:
+                // oldData로 복원 (삭제 전 데이터)
+                restoreTaskFromMap(globalLog.getEntityId(), globalLog.getOldData(), false);
+                log.info("Undo DELETE: Restored task {} from old data", globalLog.getEntityId());
+                break;
+        }
+    }
+    
+    // 되돌린 로그 하나 다시 적용
+    private void reapply(GlobalLog globalLog) {
+        switch (globalLog.getActionType()) {
+            case CREATE:
+                // newData로 다시 생성
+                restoreTaskFromMap(globalLog.getEntityId(), globalLog.getNewData(), false);
+                log.info("Redo CREATE: Recreated task {}", globalLog.getEntityId());
+                break;
+                
+            case UPDATE:
+                // newData로 다시 적용
+                restoreTaskFromMap(globalLog.getEntityId(), globalLog.getNewData(), false);
+                log.info("Redo UPDATE: Reapplied task {} with new data", globalLog.getEntityId());
+                break;
+                
+            case DELETE:
+                // 다시 삭제
+                taskRepository.deleteById(globalLog.getEntityId());
+                log.info("Redo DELETE: Deleted task {}", globalLog.getEntityId());
+                break;
+        }
+    }
+    
+    // head 다음의 Redo 대상 (head의 자식 중 되돌려진 가장 최근 로그)
+    private Optional<GlobalLog> findRedoTarget(Long headLogId) {
+        return headLogId == null
+                ? globalLogRepository.findFirstByParentLogIdIsNullAndUndoneTrueOrderByIdDesc()
+                : globalLogRepository.findFirstByParentLogIdAndUndoneTrueOrderByIdDesc(headLogId);
+    }
+    
+    // UPDATE 로그를 delta로 변환 (바뀐 필드가 없으면 false)
+    // 엔티티의 마지막 전체 스냅샷 이후 delta가 snapshot-interval - 1개 쌓였으면 이번에는 전체 스냅샷으로 저장
+    // deltaDepths: 아직 기록 전인 같은 묶음의 로그까지 반영한 엔티티별 delta 수 (ASYNC 큐에 남은 로그는 세지 않음)
+    private boolean encode(GlobalLog log, Map<String, Long> deltaDepths) {
+        String key = log.getEntityType() + ":" + log.getEntityId();
+        if (log.getActionType() != ActionType.UPDATE || log.getOldData() == null || log.getNewData() == null) {
+            deltaDepths.put(key, 0L);
+            return true;
+        }
+        Set<String> changed = TaskConverter.changedKeys(log.getOldData(), log.getNewData());
+        if (changed.isEmpty()) {
+            return false;
+        }
+        long depth = deltaDepths.computeIfAbsent(key,
+                k -> globalLogRepository.countDeltasSinceSnapshot(log.getEntityType(), log.getEntityId()));
+        if (depth < snapshotInterval - 1) {
+            log.setOldData(TaskConverter.retainKeys(log.getOldData(), changed));
+            log.setNewData(TaskConverter.retainKeys(log.getNewData(), changed));
+            log.setDelta(true);
+            deltaDepths.put(key, depth + 1);
+        } else {
+            deltaDepths.put(key, 0L);
+        }
+        return true;
+    }
+    
+    // 로그들을 순서대로 head 위에 쌓음 (ASYNC면 커밋 후 한 번에 큐에 넣음)
+    private void append(List<GlobalLog> logs) {
+        if (globalLogWriter.isAsync()) {
+            globalLogWriter.enqueue(logs);
+            return;
+        }
+        
+        GlobalLogCursor cursor = lockCursor();
+        Long headLogId = cursor.getHeadLogId();
+        for (GlobalLog log : logs) {
+            log.setParentLogId(headLogId);
+            globalLogRepository.save(log);
+            headLogId = log.getId();
+        }
+        cursor.setHeadLogId(headLogId);
+    }
+    
+    // Undo/Redo가 복원하는 변경은 트리거가 다시 기록하지 않도록 (현재 트랜잭션에만 적용)
+    private void skipTriggerCapture() {
+        if (globalLogWriter.isTrigger()) {
+            setLocal("taskorbit.audit_skip", "on");
+        }
+    }
+
+    // 트랜잭션 범위 DB 설정 (트리거가 current_setting으로 읽음)
+    private void setLocal(String name, String value) {
+        jdbcTemplate.queryForObject("SELECT set_config(?, ?, true)", String.class, name, value);
+    }
+    
+    // Undo/Redo 커서 잠금 조회 (마이그레이션에서 생성된 단일 행)
+    private GlobalLogCursor lockCursor() {
+        return globalLogCursorRepository.findWithLockById(GlobalLogCursor.SINGLETON_ID)
+                .orElseThrow(() -> new RuntimeException("GlobalLogCursor not found with id: " + GlobalLogCursor.SINGLETON_ID));
     }
     
     // Map에서 Task 복원 (skipLog: GlobalLog 생성 여부)
+    // 삭제된 작업이면 원래 ID로 다시 INSERT, 있으면 있는 필드만 적용 (delta 로그는 바뀐 필드만 들어 있음)
     private void restoreTaskFromMap(Long taskId, Map<String, Object> data, boolean skipLog) {
         if (data == null) {
             return;
         }
         
         Task task = taskRepository.findById(taskId).orElse(null);
-        TaskStatus oldStatus = task != null ? task.getStatus() : null;
-        
         if (task == null) {
-            // 삭제된 경우 새로 생성
-            task = Task.builder()
-                    .id(taskId)
-                    .title((String) data.get("title"))
-                    .category((String) data.get("category"))
-                    .size(data.get("size") != null ? TaskSize.valueOf((String) data.get("size")) : null)
-                    .status(data.get("status") != null ? TaskStatus.valueOf((String) data.get("status")) : TaskStatus.ONGOING)
-                    .dueDate(data.get("dueDate") != null ? LocalDate.parse((String) data.get("dueDate")) : LocalDate.now())
-                    .build();
-        } else {
-            // 기존 작업 업데이트
-            if (data.get("title") != null) {
-                task.setTitle((String) data.get("title"));
-            }
-            if (data.get("category") != null) {
-                task.setCategory((String) data.get("category"));
-            }
-            if (data.get("size") != null) {
-                task.setSize(TaskSize.valueOf((String) data.get("size")));
-            }
-            if (data.get("status") != null) {
-                task.setStatus(TaskStatus.valueOf((String) data.get("status")));
-            }
-            if (data.get("dueDate") != null) {
-                task.setDueDate(LocalDate.parse((String) data.get("dueDate")));
-            }
+            insertTaskFromMap(taskId, data);
+            return;
+        }
+        TaskStatus oldStatus = task.getStatus();
+        
+        if (data.get("title") != null) {
+            task.setTitle((String) data.get("title"));
+        }
+        if (data.get("category") != null) {
+            task.setCategory((String) data.get("category"));
+        }
+        if (data.get("size") != null) {
+            task.setSize(TaskSize.valueOf((String) data.get("size")));
+        }
+        if (data.get("status") != null) {
+            task.setStatus(TaskStatus.valueOf((String) data.get("status")));
+        }
+        if (data.get("dueDate") != null) {
+            task.setDueDate(LocalDate.parse((String) data.get("dueDate")));
         }
         
         Task savedTask = taskRepository.save(task);
@@ -205,6 +363,41 @@ public class GlobalLogService {
             }
         }
     }
+    
+    // 삭제된 작업을 원래 ID로 다시 INSERT (Undo DELETE, Redo CREATE)
+    // ID가 있는 새 엔티티를 save하면 merge 경로로 없는 행을 UPDATE하려다 StaleObjectStateException이 나므로 JDBC로 직접 INSERT
+    // 스냅샷에 버전이 없으므로 version은 0부터 다시 시작 (삭제 전 ETag의 If-Match는 412)
+    private void insertTaskFromMap(Long taskId, Map<String, Object> data) {
+        // 같은 묶음에서 앞서 삭제한 행을 먼저 DB에 반영 (JdbcTemplate은 영속성 컨텍스트를 flush하지 않음)
+        taskRepository.flush();
+        
+        TaskStatus status = data.get("status") != null ? TaskStatus.valueOf((String) data.get("status")) : TaskStatus.ONGOING;
+        LocalDate dueDate = data.get("dueDate") != null ? LocalDate.parse((String) data.get("dueDate")) : LocalDate.now();
+        LocalDateTime createdAt = data.get("createdAt") != null ? LocalDateTime.parse((String) data.get("createdAt")) : LocalDateTime.now();
+        Long recurringSettingId = data.get("recurringSettingId") != null ? ((Number) data.get("recurringSettingId")).longValue() : null;
+        LocalDate occurrenceDate = data.get("occurrenceDate") != null ? LocalDate.parse((String) data.get("occurrenceDate")) : null;
+        // 반복 설정이 그 사이 삭제됐거나 같은 회차가 다시 생성됐으면 연결 없이 복원 (FK/유니크 위반 방지)
+        jdbcTemplate.update("INSERT INTO tasks (id, title, category, size, status, due_date, version, created_at, updated_at, " +
+                        "recurring_setting_id, occurrence_date) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, 0, ?, CURRENT_TIMESTAMP, " +
+                        "(SELECT s.id FROM recurring_task_settings s WHERE s.id = ? AND NOT EXISTS " +
+                        "(SELECT 1 FROM tasks o WHERE o.recurring_setting_id = s.id AND o.occurrence_date = ?)), ?)",
+                taskId,
+                data.get("title"),
+                data.get("category"),
+                data.get("size"),
+                status.name(),
+                dueDate,
+                Timestamp.valueOf(createdAt),
+                recurringSettingId,
+                occurrenceDate,
+                occurrenceDate);
+        
+        // DONE 작업이면 완료 기록도 복원 (삭제될 때 CASCADE로 지워짐)
+        if (status == TaskStatus.DONE) {
+            completionRecordRepository.insertMissingForDoneTasks(List.of(taskId), LocalDate.now());
+        }
+    }
 
     // 특정 액션 타입의 로그 조회
     public List<GlobalLog> getLogsByActionType(ActionType actionType) {
@@ -0,0 +1,341 @@
+package com.eunhanlee.taskorbit.service;
+
+import com.eunhanlee.taskorbit.entity.GlobalLog;
+import com.eunhanlee.taskorbit.entity.GlobalLogCursor;
+import com.eunhanlee.taskorbit.repository.GlobalLogCursorRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GlobalLog 비동기 기록기
+ * 트랜잭션 커밋 후 큐에 넣고, 전용 스레드가 모아서 multi-row INSERT 한 번 + 커밋 한 번으로 기록 (group commit).
+ * 기록에 실패한 배치는 재시도하고, 그래도 실패하면 한 건씩 기록. 끝내 기록하지 못한 항목은 처리 완료로 세지 않고
+ * 다음 flush가 실패함 (Undo/Redo가 빠진 체인 위에서 실행되지 않도록).
+ * audit.mode=SYNC(기본)이면 큐를 사용하지 않음 (GlobalLogService가 사용자 트랜잭션 안에서 직접 기록).
+ * TRIGGER 모드는 DB 설정(audit_settings.capture_mode)으로 정함: 'TRIGGER'이면 tasks/task_logs의 DB 트리거가 기록하고
+ * 모든 인스턴스가 애플리케이션 기록을 건너뜀 (audit.mode와 다르면 DB 설정을 따름, 변경 후에는 인스턴스 재시작 필요).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GlobalLogWriter {
+
+    public enum Mode { SYNC, ASYNC, TRIGGER }
+
+    // 큐가 가득 찼을 때: BLOCK은 자리가 날 때까지 대기, CALLER_RUNS는 호출 스레드에서 바로 기록
+    public enum Backpressure { BLOCK, CALLER_RUNS }
+
+    private final GlobalLogCursorRepository globalLogCursorRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+
+    @Value("${audit.mode:SYNC}")
+    private Mode mode;
+
+    @Value("${audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${audit.batch-size:500}")
+    private int batchSize;
+
+    // 첫 항목을 받은 뒤 같은 배치에 묶기 위해 기다리는 시간
+    @Value("${audit.linger-ms:20}")
+    private long lingerMs;
+
+    @Value("${audit.backpressure:BLOCK}")
+    private Backpressure backpressure;
+
+    private static final long FLUSH_TIMEOUT_MS = 5000;
+
+    // 배치 기록 시도 횟수 (시도마다 RETRY_DELAY_MS * 시도 횟수만큼 대기)
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MS = 200;
+
+    private BlockingQueue<GlobalLog> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    // 큐에 넣은 건수 / 기록된 건수 / 끝내 기록하지 못한 건수: flush 대기 판단용
+    private long enqueuedCount;
+    private long processedCount;
+    private long failedCount;
+    // flush에서 이미 실패로 알린 건수
+    private long reportedFailedCount;
+    // synchronized/wait 대신 ReentrantLock: 가상 스레드가 대기 중에 캐리어 스레드를 점유하지 않음
+    private final ReentrantLock progressLock = new ReentrantLock();
+    private final Condition progressed = progressLock.newCondition();
+    private final ReentrantLock offerLock = new ReentrantLock();
+
+    @PostConstruct
+    public void start() {
+        resolveCaptureMode();
+        if (mode != Mode.ASYNC) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writerThread = new Thread(this::runWriter, "global-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("GlobalLog writer started (capacity {}, batch {}, linger {} ms, backpressure {})",
+                queueCapacity, batchSize, lingerMs, backpressure);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(FLUSH_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 시 남은 항목 기록
+        List<GlobalLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    public boolean isAsync() {
+        return mode == Mode.ASYNC;
+    }
+
+    public boolean isTrigger() {
+        return mode == Mode.TRIGGER;
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤에 큐에 넣음 (롤백되면 기록하지 않음)
+    // 한 번에 넘긴 항목들은 다른 요청의 항목과 섞이지 않고 연속으로 들어감 (묶음 Undo용)
+    public void enqueue(List<GlobalLog> entries) {
+        LocalDateTime now = LocalDateTime.now();
+        entries.forEach(entry -> entry.setCreatedAt(now));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(entries);
+                }
+            });
+        } else {
+            offer(entries);
+        }
+    }
+
+    /**
+     * 큐에 쌓인 항목이 모두 기록될 때까지 대기 (Undo/Redo 전에 호출)
+     * 시간 안에 끝나지 않거나, 지난 flush 이후 기록하지 못한 항목이 있으면 IllegalStateException
+     */
+    public void flush() {
+        if (mode != Mode.ASYNC) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MS;
+        progressLock.lock();
+        try {
+            long target = enqueuedCount;
+            while (processedCount + failedCount < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("Timed out flushing GlobalLog queue ("
+                            + (target - processedCount - failedCount) + " entries pending)");
+                }
+                try {
+                    progressed.await(remaining, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while flushing GlobalLog queue");
+                }
+            }
+            if (failedCount > reportedFailedCount) {
+                long failed = failedCount - reportedFailedCount;
+                reportedFailedCount = failedCount;
+                throw new IllegalStateException(failed + " GlobalLog entries could not be written");
+            }
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    // 트리거 기록 여부는 DB 설정을 따름 (트리거를 켜고 끄는 DDL은 실행하지 않음: 테이블 잠금, 인스턴스 간 충돌)
+    private void resolveCaptureMode() {
+        List<String> rows = jdbcTemplate.queryForList("SELECT capture_mode FROM audit_settings WHERE id = 1", String.class);
+        boolean triggerCapture = !rows.isEmpty() && Mode.TRIGGER.name().equals(rows.get(0));
+        if (triggerCapture && mode != Mode.TRIGGER) {
+            log.warn("audit_settings.capture_mode is TRIGGER; ignoring audit.mode={} and leaving capture to the database", mode);
+            mode = Mode.TRIGGER;
+        } else if (!triggerCapture && mode == Mode.TRIGGER) {
+            log.warn("audit.mode=TRIGGER but audit_settings.capture_mode is not TRIGGER; capturing in SYNC mode "
+                    + "(set capture_mode = 'TRIGGER' to switch every instance)");
+            mode = Mode.SYNC;
+        }
+    }
+
+    // 인터럽트되어도 항목을 버리지 않고 끝까지 넣은 뒤 인터럽트 상태를 복원 (순서 유지)
+    private void offer(List<GlobalLog> entries) {
+        boolean interrupted = false;
+        offerLock.lock();
+        try {
+            if (backpressure == Backpressure.CALLER_RUNS && queue.remainingCapacity() < entries.size()) {
+                progressLock.lock();
+                try {
+                    enqueuedCount += entries.size();
+                } finally {
+                    progressLock.unlock();
+                }
+                int failed = write(entries);
+                recordProgress(entries.size() - failed, failed);
+                return;
+            }
+            for (GlobalLog entry : entries) {
+                while (true) {
+                    try {
+                        queue.put(entry);
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                progressLock.lock();
+                try {
+                    enqueuedCount++;
+                } finally {
+                    progressLock.unlock();
+                }
+            }
+        } finally {
+            offerLock.unlock();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void runWriter() {
+        List<GlobalLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                GlobalLog first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                if (lingerMs > 0 && queue.size() < batchSize - 1) {
+                    Thread.sleep(lingerMs);
+                }
+            } catch (InterruptedException e) {
+                if (batch.isEmpty()) {
+                    continue;
+                }
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+            int failed = write(batch);
+            recordProgress(batch.size() - failed, failed);
+            batch.clear();
+        }
+    }
+
+    private void recordProgress(int written, int failed) {
+        progressLock.lock();
+        try {
+            processedCount += written;
+            failedCount += failed;
+            progressed.signalAll();
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    /**
+     * 배치 기록: 실패하면 MAX_WRITE_ATTEMPTS번까지 재시도하고, 그래도 실패하면 한 건씩 기록
+     * (잘못된 항목 하나가 배치 전체를 막지 않도록). 기록하지 못한 건수 반환
+     */
+    private int write(List<GlobalLog> batch) {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                writeBatch(batch);
+                return 0;
+            } catch (Exception e) {
+                log.warn("Error writing {} GlobalLog entries (attempt {}/{})", batch.size(), attempt, MAX_WRITE_ATTEMPTS, e);
+                try {
+                    Thread.sleep(RETRY_DELAY_MS * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        int failed = 0;
+        for (GlobalLog entry : batch) {
+            try {
+                writeBatch(List.of(entry));
+            } catch (Exception e) {
+                failed++;
+                log.error("Could not write GlobalLog entry {} {} {}", entry.getActionType(), entry.getEntityType(), entry.getEntityId(), e);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 한 트랜잭션에서 배치 기록
+     * 커서 행을 잠그고 시퀀스에서 ID를 미리 받아 parent_log_id 체인을 이은 뒤 multi-row INSERT
+     */
+    private void writeBatch(List<GlobalLog> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            GlobalLogCursor cursor = globalLogCursorRepository.findWithLockById(GlobalLogCursor.SINGLETON_ID)
+                    .orElseThrow(() -> new RuntimeException("GlobalLogCursor not found with id: " + GlobalLogCursor.SINGLETON_ID));
+
+            // 행마다 nextval (global_logs ID는 기록 순서대로 증가해야 함: Redo 대상, 엔티티별 스냅샷 판단)
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT nextval(pg_get_serial_sequence('global_logs', 'id')) FROM generate_series(1, ?) ORDER BY 1",
+                    Long.class, batch.size());
+
+            StringBuilder sql = new StringBuilder("INSERT INTO global_logs " +
+                    "(id, entity_type, entity_id, action_type, old_data, new_data, delta, group_id, parent_log_id, created_at) VALUES ");
+            List<Object> args = new ArrayList<>(batch.size() * 10);
+            Long parentLogId = cursor.getHeadLogId();
+            for (int i = 0; i < batch.size(); i++) {
+                GlobalLog entry = batch.get(i);
+                Long id = ids.get(i);
+                sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb), ?, ?, ?, ?)");
+                args.add(id);
+                args.add(entry.getEntityType());
+                args.add(entry.getEntityId());
+                args.add(entry.getActionType().name());
+                args.add(entry.getOldData() != null ? jsonMapper.writeValueAsString(entry.getOldData()) : null);
+                args.add(entry.getNewData() != null ? jsonMapper.writeValueAsString(entry.getNewData()) : null);
+                args.add(entry.getDelta());
+                args.add(entry.getGroupId());
+                args.add(parentLogId);
+                args.add(Timestamp.valueOf(entry.getCreatedAt()));
+                parentLogId = id;
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+            cursor.setHeadLogId(parentLogId);
+        });
+    }
+}
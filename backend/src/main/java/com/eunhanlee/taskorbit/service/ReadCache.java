@@ -0,0 +1,167 @@
+package com.eunhanlee.taskorbit.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 조회 결과 캐시 (프로세스 내, 영역별)
+ * 영역마다 최대 항목 수(LRU)와 TTL로 제거하고, 쓰기 경로가 커밋 후 해당 영역을 비움 (보드 버전도 함께 증가).
+ * 캐시된 값은 요청 간에 공유되므로 호출자가 수정하면 안 됨.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadCache {
+
+    public static final String TODAY = "today";
+    public static final String LATER = "later";
+    public static final String DONE = "done";
+    public static final String RECORD = "record";
+    public static final String ACTIVE_SETTINGS = "activeSettings";
+
+    // 작업/작업 로그가 바뀌면 비울 영역 (nextAction이 모든 탭 응답에 포함됨)
+    public static final List<String> TASK_REGIONS = List.of(TODAY, LATER, DONE, RECORD);
+
+    @Value("${read-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${read-cache.max-entries:200}")
+    private int maxEntries;
+
+    @Value("${read-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final BoardVersion boardVersion;
+
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    // 캐시에 있으면 반환, 없거나 만료됐으면 loader로 읽어 저장 (loader가 예외를 던지면 저장하지 않음)
+    @SuppressWarnings("unchecked")
+    public <T> T get(String region, Object key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Region cache = region(region);
+        Object cached = cache.lookup(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        // 읽는 동안 무효화되면 이전 데이터이므로 저장하지 않음
+        long generation = cache.generation.get();
+        T value = loader.get();
+        cache.store(key, value, generation);
+        return value;
+    }
+
+    // 영역 비우기: 트랜잭션 안이면 커밋 후 (커밋 전에 비우면 다른 요청이 이전 데이터를 다시 채울 수 있음)
+    public void invalidate(Collection<String> names) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear(names);
+                }
+            });
+        } else {
+            clear(names);
+        }
+    }
+
+    public void invalidate(String name) {
+        invalidate(List.of(name));
+    }
+
+    // 영역별 hit/miss/eviction/invalidation 수와 현재 항목 수
+    public Map<String, Map<String, Long>> stats() {
+        Map<String, Map<String, Long>> stats = new TreeMap<>();
+        regions.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+
+    // 캐시를 먼저 비운 뒤 버전을 올림 (새 버전 ETag가 이전 캐시 내용에 붙지 않도록)
+    private void clear(Collection<String> names) {
+        for (String name : names) {
+            region(name).clear();
+        }
+        boardVersion.increment();
+    }
+
+    private Region region(String name) {
+        return regions.computeIfAbsent(name, n -> new Region());
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    private class Region {
+
+        private final AtomicLong generation = new AtomicLong();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+        private final AtomicLong invalidations = new AtomicLong();
+
+        // 접근 순서 LinkedHashMap: 가득 차면 가장 오래 안 쓴 항목 제거
+        private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        synchronized Object lookup(Object key) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt() < System.currentTimeMillis()) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.value();
+        }
+
+        synchronized void store(Object key, Object value, long expectedGeneration) {
+            if (value == null || generation.get() != expectedGeneration) {
+                return;
+            }
+            entries.put(key, new Entry(value, System.currentTimeMillis() + ttlSeconds * 1000));
+        }
+
+        synchronized void clear() {
+            generation.incrementAndGet();
+            invalidations.incrementAndGet();
+            entries.clear();
+        }
+
+        synchronized Map<String, Long> stats() {
+            Map<String, Long> stats = new LinkedHashMap<>();
+            stats.put("size", (long) entries.size());
+            stats.put("hits", hits.get());
+            stats.put("misses", misses.get());
+            stats.put("evictions", evictions.get());
+            stats.put("invalidations", invalidations.get());
+            return stats;
+        }
+    }
+}
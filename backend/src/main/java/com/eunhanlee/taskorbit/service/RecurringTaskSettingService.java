@@ -1,16 +1,18 @@
 package com.eunhanlee.taskorbit.service;
 
 import com.eunhanlee.taskorbit.entity.RecurringTaskSetting;
-import com.eunhanlee.taskorbit.entity.Task;
-import com.eunhanlee.taskorbit.entity.enums.RecurrenceType;
+import com.eunhanlee.taskorbit.entity.enums.ActionType;
 import com.eunhanlee.taskorbit.repository.RecurringTaskSettingRepository;
-import com.eunhanlee.taskorbit.repository.TaskRepository;
+import com.eunhanlee.taskorbit.util.RecurrenceCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -20,7 +22,15 @@ import java.util.List;
 public class RecurringTaskSettingService {
 
     private final RecurringTaskSettingRepository recurringTaskSettingRepository;
-    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadCache readCache;
+    private final ChangeEventService changeEventService;
+
+    // 반복 작업 1건 생성 (due_date, occurrence_date, setting id)
+    private static final String INSERT_OCCURRENCE_SQL =
+            "INSERT INTO tasks (title, category, size, status, due_date, recurring_setting_id, occurrence_date) " +
+            "SELECT s.title, s.category, s.size, 'ONGOING', ?, s.id, ? FROM recurring_task_settings s WHERE s.id = ? " +
+            "ON CONFLICT (recurring_setting_id, occurrence_date) DO NOTHING";
 
     // 활성화된 반복 작업 설정 조회
     public List<RecurringTaskSetting> getActiveSettings() {
@@ -35,10 +45,14 @@ public class RecurringTaskSettingService {
     // 반복 작업 설정 생성
     @Transactional
     public RecurringTaskSetting createSetting(RecurringTaskSetting setting) {
+        readCache.invalidate(ReadCache.ACTIVE_SETTINGS);
         if (setting.getIsActive() == null) {
             setting.setIsActive(true);
         }
-        return recurringTaskSettingRepository.save(setting);
+        setting.setNextRunDate(computeNextRunDate(setting, LocalDate.now().plusDays(1)));
+        RecurringTaskSetting saved = recurringTaskSettingRepository.save(setting);
+        changeEventService.publish("RecurringTaskSetting", saved.getId(), ActionType.CREATE.name());
+        return saved;
     }
 
     // 반복 작업 설정 조회
@@ -47,10 +61,14 @@ public class RecurringTaskSettingService {
                 .orElseThrow(() -> new RuntimeException("RecurringTaskSetting not found with id: " + id));
     }
 
-    // 반복 작업 설정 수정
+    // 반복 작업 설정 수정 (expectedVersion이 있으면 현재 버전과 같을 때만)
     @Transactional
-    public RecurringTaskSetting updateSetting(Long id, RecurringTaskSetting updatedSetting) {
+    public RecurringTaskSetting updateSetting(Long id, RecurringTaskSetting updatedSetting, Long expectedVersion) {
+        readCache.invalidate(ReadCache.ACTIVE_SETTINGS);
         RecurringTaskSetting setting = getSetting(id);
+        if (expectedVersion != null && !expectedVersion.equals(setting.getVersion())) {
+            throw new OptimisticLockingFailureException("RecurringTaskSetting version mismatch for id: " + id);
+        }
         
         if (updatedSetting.getTitle() != null) {
             setting.setTitle(updatedSetting.getTitle());
@@ -70,6 +88,8 @@ public class RecurringTaskSettingService {
         if (updatedSetting.getIsActive() != null) {
             setting.setIsActive(updatedSetting.getIsActive());
         }
+        setting.setNextRunDate(computeNextRunDate(setting, LocalDate.now().plusDays(1)));
+        changeEventService.publish("RecurringTaskSetting", id, ActionType.UPDATE.name());
         
         return recurringTaskSettingRepository.save(setting);
     }
@@ -77,74 +97,104 @@ public class RecurringTaskSettingService {
     // 반복 작업 설정 삭제
     @Transactional
     public void deleteSetting(Long id) {
+        readCache.invalidate(ReadCache.ACTIVE_SETTINGS);
         recurringTaskSettingRepository.deleteById(id);
+        changeEventService.publish("RecurringTaskSetting", id, ActionType.DELETE.name());
     }
 
     // 반복 작업 설정 활성화/비활성화
     @Transactional
     public RecurringTaskSetting toggleActive(Long id) {
+        readCache.invalidate(ReadCache.ACTIVE_SETTINGS);
         RecurringTaskSetting setting = getSetting(id);
         setting.setIsActive(!setting.getIsActive());
+        setting.setNextRunDate(computeNextRunDate(setting, LocalDate.now().plusDays(1)));
+        changeEventService.publish("RecurringTaskSetting", id, ActionType.UPDATE.name());
         return recurringTaskSettingRepository.save(setting);
     }
 
-    // 반복 작업 자동 생성 (매일 실행)
+    // 반복 작업 자동 생성 (모든 활성 설정, 오늘 기준)
     @Transactional
-    public void generateRecurringTasks() {
-        List<RecurringTaskSetting> activeSettings = getActiveSettings();
-        LocalDate today = LocalDate.now();
-        int generatedCount = 0;
+    public int generateRecurringTasks() {
+        List<Long> settingIds = getActiveSettings().stream()
+                .map(RecurringTaskSetting::getId)
+                .toList();
+        return generateRecurringTasks(LocalDate.now(), settingIds);
+    }
+
+    // 반복 작업 자동 생성 (지정한 설정 ID들)
+    // 생성 예정일이 date 이하인 설정마다 next_run_date ~ date 사이의 모든 반복일을 생성 (스케줄러가 멈췄던 날 포함)
+    // 누락분까지 한 번의 JDBC 배치로 INSERT하고, next_run_date는 date 다음 반복일로 전진
+    // 중복 여부는 (recurring_setting_id, occurrence_date) 유니크 제약으로 판단
+    @Transactional
+    public int generateRecurringTasks(LocalDate date, List<Long> settingIds) {
+        if (settingIds.isEmpty()) {
+            return 0;
+        }
         
-        for (RecurringTaskSetting setting : activeSettings) {
-            if (shouldGenerateTask(setting, today)) {
-                Task task = Task.builder()
-                        .title(setting.getTitle())
-                        .category(setting.getCategory())
-                        .size(setting.getSize())
-                        .dueDate(today)
-                        .build();
-                
-                taskRepository.save(task);
-                generatedCount++;
-                log.info("Generated recurring task: {} (type: {})", task.getTitle(), setting.getRecurrenceType());
+        List<Object[]> occurrences = new ArrayList<>();
+        for (RecurringTaskSetting setting : recurringTaskSettingRepository.findAllById(settingIds)) {
+            if (!setting.getIsActive() || setting.getNextRunDate() == null
+                    || setting.getNextRunDate().isAfter(date)) {
+                continue;
+            }
+            List<Object[]> due = new ArrayList<>();
+            LocalDate occurrence = setting.getNextRunDate();
+            try {
+                while (occurrence != null && !occurrence.isAfter(date)) {
+                    due.add(new Object[]{date, occurrence, setting.getId()});
+                    occurrence = computeNextRunDate(setting, occurrence.plusDays(1));
+                }
+            } catch (IllegalArgumentException e) {
+                // 다음 반복일을 못 구하는 설정은 건너뛰고 next_run_date 유지 (설정 수정 후 다시 생성)
+                log.error("Skipping recurring setting {}: {}", setting.getId(), e.getMessage());
+                continue;
             }
+            occurrences.addAll(due);
+            setting.setNextRunDate(occurrence);
         }
+        readCache.invalidate(ReadCache.ACTIVE_SETTINGS);
+        if (occurrences.isEmpty()) {
+            return 0;
+        }
+        readCache.invalidate(ReadCache.TASK_REGIONS);
         
-        log.info("Generated {} recurring tasks", generatedCount);
+        int generatedCount = 0;
+        for (int count : jdbcTemplate.batchUpdate(INSERT_OCCURRENCE_SQL, occurrences)) {
+            if (count > 0) {
+                generatedCount += count;
+            }
+        }
+        log.info("Generated {} recurring tasks for {} ({} occurrences due)", generatedCount, date, occurrences.size());
+        return generatedCount;
     }
 
-    // 반복 작업 생성 여부 판단
-    private boolean shouldGenerateTask(RecurringTaskSetting setting, LocalDate date) {
-        // 이미 오늘 생성된 작업이 있는지 확인 (제목, 카테고리, dueDate로 중복 체크)
-        List<Task> todayTasks = taskRepository.findByDueDate(date);
-        boolean alreadyExists = todayTasks.stream()
-                .anyMatch(task -> task.getTitle().equals(setting.getTitle()) &&
-                        ((task.getCategory() == null && setting.getCategory() == null) ||
-                         (task.getCategory() != null && task.getCategory().equals(setting.getCategory()))) &&
-                        task.getDueDate().equals(date));
-        
-        if (alreadyExists) {
-            return false;
+    // next_run_date가 비어 있는 활성 설정 초기화 (마이그레이션 이후 최초 기동 등)
+    @Transactional
+    public void initializeNextRunDates() {
+        readCache.invalidate(ReadCache.ACTIVE_SETTINGS);
+        List<RecurringTaskSetting> settings = recurringTaskSettingRepository.findByIsActiveTrueAndNextRunDateIsNull();
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        for (RecurringTaskSetting setting : settings) {
+            try {
+                setting.setNextRunDate(computeNextRunDate(setting, tomorrow));
+            } catch (IllegalArgumentException e) {
+                log.error("Cannot compute next run date for recurring setting {}: {}", setting.getId(), e.getMessage());
+            }
         }
-        
-        // 반복 유형에 따라 생성 여부 결정
-        switch (setting.getRecurrenceType()) {
-            case DAILY:
-                return true; // 매일 생성
-            case WEEKLY:
-                // 매주 같은 요일에 생성 (설정 생성일 기준)
-                return date.getDayOfWeek() == setting.getCreatedAt().toLocalDate().getDayOfWeek();
-            case MONTHLY:
-                // 매월 같은 일자에 생성 (설정 생성일 기준)
-                return date.getDayOfMonth() == setting.getCreatedAt().toLocalDate().getDayOfMonth();
-            case YEARLY:
-                // 매년 같은 월/일자에 생성 (설정 생성일 기준)
-                return date.getMonthValue() == setting.getCreatedAt().toLocalDate().getMonthValue() &&
-                       date.getDayOfMonth() == setting.getCreatedAt().toLocalDate().getDayOfMonth();
-            default:
-                return false;
+        if (!settings.isEmpty()) {
+            log.info("Initialized next run date for {} recurring settings", settings.size());
         }
     }
-}
 
+    // from 이후(포함) 다음 반복일 계산, 비활성이면 null (설정 값이 잘못됐거나 반복일이 없으면 IllegalArgumentException)
+    private LocalDate computeNextRunDate(RecurringTaskSetting setting, LocalDate from) {
+        if (!Boolean.TRUE.equals(setting.getIsActive())) {
+            return null;
+        }
+        LocalDate anchor = setting.getCreatedAt() != null ? setting.getCreatedAt().toLocalDate() : LocalDate.now();
+        return RecurrenceCalculator.nextOccurrence(
+                setting.getRecurrenceType(), setting.getRecurrenceConfig(), anchor, from);
+    }
+}
 
@@ -1,18 +1,29 @@
 package com.eunhanlee.taskorbit.service;
 
-import com.eunhanlee.taskorbit.entity.Task;
-import com.eunhanlee.taskorbit.entity.TaskCompletionRecord;
-import com.eunhanlee.taskorbit.entity.enums.TaskStatus;
+import com.eunhanlee.taskorbit.dto.ChangeEvent;
+import com.eunhanlee.taskorbit.entity.SchedulerCheckpoint;
+import com.eunhanlee.taskorbit.entity.enums.SchedulerPhase;
+import com.eunhanlee.taskorbit.repository.RecurringTaskSettingRepository;
+import com.eunhanlee.taskorbit.repository.SchedulerCheckpointRepository;
 import com.eunhanlee.taskorbit.repository.TaskCompletionRecordRepository;
 import com.eunhanlee.taskorbit.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
 
 @Service
 @RequiredArgsConstructor
@@ -21,106 +32,243 @@ public class SchedulerService {
 
     private final TaskRepository taskRepository;
     private final TaskCompletionRecordRepository completionRecordRepository;
-    private final TaskService taskService;
+    private final RecurringTaskSettingRepository recurringTaskSettingRepository;
+    private final SchedulerCheckpointRepository checkpointRepository;
     private final RecurringTaskSettingService recurringTaskSettingService;
+    private final TaskLogService taskLogService;
+    private final GlobalLogService globalLogService;
+    private final ReadCache readCache;
+    private final ChangeEventService changeEventService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${scheduler.chunk-size:1000}")
+    private int chunkSize;
+
+    // 일일 스케줄러 실행 시각 (이 시각 전이면 전날 실행분까지만 따라잡음)
+    private static final int DAILY_RUN_HOUR = 3;
+
+    // 일일 실행을 한 번에 하나만: 시작 시 재개/따라잡기(메인 스레드), 3시 실행(스케줄러 스레드), 수동 실행(요청 스레드)
+    private final ReentrantLock dailyRunLock = new ReentrantLock();
 
     /**
      * 매일 3시 AM에 실행되는 스케줄러
-     * 1. Waiting → Ongoing 변경
-     * 2. Done → Record 이동 (TaskCompletionRecord 확인 및 생성)
-     * 3. 미완료 작업의 schedule_date 롤오버
-     * 4. 반복 작업 자동 생성
      */
     @Scheduled(cron = "0 0 3 * * ?") // 매일 3시 AM
-    @Transactional
     public void dailyTaskScheduler() {
         log.info("Starting daily task scheduler at 3:00 AM");
-        
+
         try {
-            // 1. Waiting → Ongoing 변경
-            activateWaitingTasks();
-            
-            // 2. Done → Record 이동 (TaskCompletionRecord 확인 및 생성)
-            moveDoneToRecord();
-            
-            // 3. 미완료 작업의 schedule_date 롤오버
-            rolloverIncompleteTasks();
-            
-            // 4. 반복 작업 자동 생성
-            generateRecurringTasks();
-            
-            log.info("Daily task scheduler completed successfully");
+            runDailyTasks(LocalDate.now());
         } catch (Exception e) {
             log.error("Error in daily task scheduler", e);
         }
     }
 
     /**
-     * Waiting 상태인 작업들을 Ongoing으로 변경
+     * 앱 시작 시: 반복 설정의 next_run_date 초기화, 중단된 실행 재개 후 누락된 날짜 따라잡기
      */
-    @Transactional
-    public void activateWaitingTasks() {
-        List<Task> waitingTasks = taskRepository.findByStatus(TaskStatus.WAITING);
-        
-        for (Task task : waitingTasks) {
-            task.setStatus(TaskStatus.ONGOING);
-            taskRepository.save(task);
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            recurringTaskSettingService.initializeNextRunDates();
+        } catch (Exception e) {
+            log.error("Error initializing recurring next run dates", e);
+        }
+        dailyRunLock.lock();
+        try {
+            resumeInterruptedRun();
+            catchUp();
+        } catch (Exception e) {
+            log.error("Error catching up missed daily task runs", e);
+        } finally {
+            dailyRunLock.unlock();
         }
-        
-        log.info("Activated {} waiting tasks to ongoing", waitingTasks.size());
     }
 
     /**
-     * Done 상태인 작업들을 Record로 이동
-     * TaskCompletionRecord가 없는 경우 생성
+     * 누락된 날짜 따라잡기
+     * 마지막으로 모든 단계가 완료된 실행일 다음날부터 실행 기준일(3시 AM 이전이면 어제)까지가 누락 구간.
+     * 각 단계가 구간 전체를 한 번에 처리하므로 기준일로 한 번만 실행함:
+     * - 롤오버는 due_date <= 기준일 전체를 대상으로 하므로 여러 날 롤오버한 결과와 같음
+     * - 반복 작업은 설정별 next_run_date ~ 기준일 사이의 모든 반복일을 일괄 생성
+     * 누락 구간이 없으면 빈 목록 반환
+     * 완료된 실행 기록이 아예 없으면(첫 배포, 새 DB) 누락이 아니라 시작점: 기준일을 완료로 기록만 하고 실행하지 않음
+     * (낮에 기동하면서 Waiting 활성화, 오늘 마감 작업 롤오버가 일어나지 않도록)
      */
-    @Transactional
-    public void moveDoneToRecord() {
-        List<Task> doneTasks = taskRepository.findByStatus(TaskStatus.DONE);
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        int movedCount = 0;
+    public List<SchedulerCheckpoint> catchUp() {
+        LocalDate targetDate = LocalDateTime.now().minusHours(DAILY_RUN_HOUR).toLocalDate();
+        Optional<LocalDate> lastProcessed = getLastProcessedDate();
         
-        for (Task task : doneTasks) {
-            // TaskCompletionRecord가 없는 경우 생성
-            if (!completionRecordRepository.existsByTaskId(task.getId())) {
-                TaskCompletionRecord record = TaskCompletionRecord.builder()
-                        .task(task)
-                        .completedDate(yesterday) // 어제 완료된 것으로 간주
-                        .build();
-                completionRecordRepository.save(record);
-                movedCount++;
+        if (lastProcessed.isEmpty()) {
+            if (checkpointRepository.findTopByOrderByRunDateDesc().isEmpty()) {
+                seedCompletedRun(targetDate);
             }
+            return List.of();
+        }
+        if (!lastProcessed.get().isBefore(targetDate)) {
+            return List.of();
         }
         
-        log.info("Moved {} done tasks to record", movedCount);
+        log.info("Catching up missed daily task runs: last processed {}, target {}", lastProcessed.get(), targetDate);
+        return runDailyTasks(targetDate);
     }
 
     /**
-     * 미완료 작업의 due_date를 다음날로 롤오버
+     * 마지막으로 모든 단계가 완료된 실행일 (마지막 단계 완료 기준)
      */
-    @Transactional
-    public void rolloverIncompleteTasks() {
-        LocalDate today = LocalDate.now();
-        List<Task> incompleteTasks = taskRepository.findByDueDateLessThanEqual(today)
-                .stream()
-                .filter(task -> task.getStatus() != TaskStatus.DONE)
-                .toList();
-        
-        for (Task task : incompleteTasks) {
-            task.setDueDate(today.plusDays(1));
-            taskRepository.save(task);
+    public Optional<LocalDate> getLastProcessedDate() {
+        return checkpointRepository.findLastCompletedRunDate(SchedulerPhase.GENERATE_RECURRING);
+    }
+
+    /**
+     * 중단된 실행이 있으면 체크포인트부터 이어서 실행
+     */
+    private void resumeInterruptedRun() {
+        checkpointRepository.findTopByOrderByRunDateDesc()
+                .map(SchedulerCheckpoint::getRunDate)
+                .filter(runDate -> !isRunCompleted(runDate))
+                .ifPresent(runDate -> {
+                    log.info("Resuming interrupted daily task run for {}", runDate);
+                    try {
+                        runDailyTasks(runDate);
+                    } catch (Exception e) {
+                        log.error("Error resuming daily task run for {}", runDate, e);
+                    }
+                });
+    }
+
+    /**
+     * 일일 작업 실행 (단계별 체크포인트 반환)
+     * 1. Waiting → Ongoing 변경
+     * 2. Done → Record 이동 (TaskCompletionRecord 확인 및 생성)
+     * 3. 미완료 작업의 due_date 롤오버
+     * 4. 반복 작업 자동 생성
+     * 각 단계는 chunk-size 단위로 나눠 커밋하고, 청크마다 체크포인트를 같은 트랜잭션에서 전진시킴.
+     * 감사 트리거(audit_settings.capture_mode=TRIGGER)로 기록되는 변경은 감사 전용 (사용자 Undo 대상 아님).
+     * 청크가 커밋될 때마다 탭 캐시를 비우고 변경 이벤트(단계 이름, 바뀐 행 수)를 보냄 (3시 실행 후 Today/Later가 롤오버 결과를 바로 반영).
+     * 이미 완료된 단계는 건너뛰므로 중단된 실행을 다시 호출하면 이어서 처리됨.
+     * 동시에 호출되면 앞선 실행이 끝날 때까지 기다린 뒤 남은 단계만 처리.
+     */
+    public List<SchedulerCheckpoint> runDailyTasks(LocalDate runDate) {
+        dailyRunLock.lock();
+        try {
+            return runPhases(runDate);
+        } finally {
+            dailyRunLock.unlock();
         }
-        
-        log.info("Rolled over {} incomplete tasks", incompleteTasks.size());
+    }
+
+    private List<SchedulerCheckpoint> runPhases(LocalDate runDate) {
+        LocalDate yesterday = runDate.minusDays(1);
+        LocalDate tomorrow = runDate.plusDays(1);
+        List<SchedulerCheckpoint> results = new ArrayList<>();
+
+        // 1. Waiting → Ongoing 변경
+        results.add(runPhase(runDate, SchedulerPhase.ACTIVATE_WAITING,
+                (afterId, limit) -> taskRepository.findIdsByStatusAfter("WAITING", afterId, limit),
+                taskRepository::activateWaitingTasks));
+
+        // 2. Done → Record 이동 (완료 기록이 없으면 어제 완료된 것으로 간주)
+        results.add(runPhase(runDate, SchedulerPhase.MOVE_DONE_TO_RECORD,
+                (afterId, limit) -> taskRepository.findIdsByStatusAfter("DONE", afterId, limit),
+                ids -> completionRecordRepository.insertMissingForDoneTasks(ids, yesterday)));
+
+        // 3. 미완료 작업의 due_date 롤오버
+        results.add(runPhase(runDate, SchedulerPhase.ROLLOVER,
+                (afterId, limit) -> taskRepository.findIncompleteIdsDueBy(runDate, afterId, limit),
+                ids -> taskRepository.rolloverIncompleteTasks(ids, runDate, tomorrow)));
+
+        // 4. 반복 작업 자동 생성 (누락된 반복일 포함)
+        results.add(runPhase(runDate, SchedulerPhase.GENERATE_RECURRING,
+                (afterId, limit) -> recurringTaskSettingRepository.findDueIdsAfter(runDate, afterId, limit),
+                ids -> recurringTaskSettingService.generateRecurringTasks(runDate, ids)));
+
+        log.info("Daily task scheduler completed successfully for {}", runDate);
+        return results;
     }
 
     /**
-     * 반복 작업 자동 생성
+     * 특정 실행일의 단계별 체크포인트 (처리 행 수, 소요 시간)
      */
-    @Transactional
-    public void generateRecurringTasks() {
-        recurringTaskSettingService.generateRecurringTasks();
-        log.info("Recurring tasks generation completed");
+    public List<SchedulerCheckpoint> getCheckpoints(LocalDate runDate) {
+        return checkpointRepository.findByRunDateOrderByIdAsc(runDate);
+    }
+
+    /**
+     * 매주 일요일 4시 AM: tasks.latest_next_action을 task_logs 기준으로 재구성
+     */
+    @Scheduled(cron = "0 0 4 * * SUN")
+    public void repairLatestNextActions() {
+        try {
+            taskLogService.rebuildLatestNextActions();
+        } catch (Exception e) {
+            log.error("Error rebuilding latest next actions", e);
+        }
+    }
+
+    // 실행 기록의 시작점: 모든 단계를 처리 행 없이 완료로 기록
+    private void seedCompletedRun(LocalDate runDate) {
+        for (SchedulerPhase phase : SchedulerPhase.values()) {
+            checkpointRepository.save(SchedulerCheckpoint.builder()
+                    .runDate(runDate)
+                    .phase(phase)
+                    .completed(true)
+                    .build());
+        }
+        log.info("No completed daily task run yet: recorded {} as the starting point", runDate);
+    }
+
+    private boolean isRunCompleted(LocalDate runDate) {
+        List<SchedulerCheckpoint> checkpoints = checkpointRepository.findByRunDateOrderByIdAsc(runDate);
+        return checkpoints.size() == SchedulerPhase.values().length
+                && checkpoints.stream().allMatch(SchedulerCheckpoint::getCompleted);
+    }
+
+    /**
+     * 한 단계를 청크 단위로 실행
+     * nextIds: 체크포인트 이후 대상 ID 조회, apply: 해당 ID들을 일괄 처리하고 영향 행 수 반환
+     */
+    private SchedulerCheckpoint runPhase(LocalDate runDate, SchedulerPhase phase,
+                                         BiFunction<Long, Integer, List<Long>> nextIds,
+                                         ToIntFunction<List<Long>> apply) {
+        SchedulerCheckpoint checkpoint = checkpointRepository.findByRunDateAndPhase(runDate, phase)
+                .orElseGet(() -> checkpointRepository.save(SchedulerCheckpoint.builder()
+                        .runDate(runDate)
+                        .phase(phase)
+                        .build()));
+
+        if (checkpoint.getCompleted()) {
+            log.info("Skipping completed phase {} for {}", phase, runDate);
+            return checkpoint;
+        }
+
+        while (!checkpoint.getCompleted()) {
+            SchedulerCheckpoint current = checkpoint;
+            long chunkStart = System.currentTimeMillis();
+
+            checkpoint = transactionTemplate.execute(status -> {
+                globalLogService.markSystemChanges();
+                readCache.invalidate(ReadCache.TASK_REGIONS);
+                List<Long> ids = nextIds.apply(current.getLastProcessedId(), chunkSize);
+                if (!ids.isEmpty()) {
+                    int affected = apply.applyAsInt(ids);
+                    current.setAffectedRows(current.getAffectedRows() + affected);
+                    current.setLastProcessedId(ids.get(ids.size() - 1));
+                    changeEventService.publish(ChangeEvent.builder()
+                            .entityType("Scheduler")
+                            .action(phase.name())
+                            .count(affected)
+                            .build());
+                }
+                current.setCompleted(ids.size() < chunkSize);
+                current.setDurationMs(current.getDurationMs() + (System.currentTimeMillis() - chunkStart));
+                return checkpointRepository.save(current);
+            });
+        }
+
+        log.info("Phase {} for {}: {} rows in {} ms",
+                phase, runDate, checkpoint.getAffectedRows(), checkpoint.getDurationMs());
+        return checkpoint;
     }
 }
 
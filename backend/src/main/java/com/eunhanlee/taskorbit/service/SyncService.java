@@ -0,0 +1,142 @@
+package com.eunhanlee.taskorbit.service;
+
+import com.eunhanlee.taskorbit.dto.SyncResponse;
+import com.eunhanlee.taskorbit.dto.TaskLogResponse;
+import com.eunhanlee.taskorbit.dto.TaskResponse;
+import com.eunhanlee.taskorbit.repository.RecurringTaskSettingRepository;
+import com.eunhanlee.taskorbit.repository.TaskLogRepository;
+import com.eunhanlee.taskorbit.repository.TaskRepository;
+import com.eunhanlee.taskorbit.util.CursorUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 델타 동기화: since 커서 이후에 생성/수정/삭제된 작업, 작업 로그, 반복 설정만 반환
+ * 행마다 DB 트리거가 (쓴 트랜잭션 ID, 변경 순번)을 기록하고 삭제는 tombstone으로 남김 (V20).
+ * 아직 진행 중인 가장 오래된 트랜잭션(snapshot xmin)보다 앞선 변경만 반환하므로,
+ * 늦게 커밋되는 변경을 커서가 건너뛰지 않음 (동시 쓰기 중에도 페이지가 안정적).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskRepository taskRepository;
+    private final TaskLogRepository taskLogRepository;
+    private final RecurringTaskSettingRepository recurringTaskSettingRepository;
+
+    @Value("${sync.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
+
+    private static final String CHANGES_SQL =
+            "SELECT entity_type, entity_id, change_xid, change_seq, deleted FROM (" +
+            "SELECT 'Task' AS entity_type, id AS entity_id, change_xid, change_seq, false AS deleted FROM tasks " +
+            "UNION ALL SELECT 'TaskLog', id, change_xid, change_seq, false FROM task_logs " +
+            "UNION ALL SELECT 'RecurringTaskSetting', id, change_xid, change_seq, false FROM recurring_task_settings " +
+            "UNION ALL SELECT entity_type, entity_id, change_xid, change_seq, true FROM sync_tombstones" +
+            ") c WHERE (change_xid, change_seq) > (?, ?) " +
+            "AND change_xid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint " +
+            "ORDER BY change_xid, change_seq LIMIT ?";
+
+    private record Change(String entityType, Long entityId, long xid, long seq, boolean deleted) {
+    }
+
+    /**
+     * since 이후의 변경 한 페이지 (since가 없으면 처음부터 = 전체 목록)
+     * 같은 항목이 페이지 안에 여러 번 있으면 마지막 변경만 (삭제 후 복원 등)
+     * 커서 형식 오류는 IllegalArgumentException, tombstone이 이미 정리된 오래된 커서는 IllegalStateException (전체 다시 조회)
+     */
+    public SyncResponse getChangesSince(String since, int limit) {
+        long afterXid = -1;
+        long afterSeq = -1;
+        if (since != null) {
+            String[] parts = CursorUtil.decode(since, 2);
+            try {
+                afterXid = Long.parseLong(parts[0]);
+                afterSeq = Long.parseLong(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + since);
+            }
+            Long minXid = jdbcTemplate.queryForObject("SELECT min_xid FROM sync_state WHERE id = 1", Long.class);
+            if (minXid != null && minXid > 0 && afterXid <= minXid) {
+                throw new IllegalStateException("Sync cursor expired: " + since);
+            }
+        }
+
+        List<Change> rows = jdbcTemplate.query(CHANGES_SQL, (rs, rowNum) -> new Change(
+                rs.getString("entity_type"), rs.getLong("entity_id"),
+                rs.getLong("change_xid"), rs.getLong("change_seq"), rs.getBoolean("deleted")),
+                afterXid, afterSeq, limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+
+        Map<String, Change> latest = new LinkedHashMap<>();
+        for (Change change : rows) {
+            latest.put(change.entityType() + ":" + change.entityId(), change);
+        }
+
+        List<SyncResponse.Tombstone> deleted = new ArrayList<>();
+        Map<String, List<Long>> changedIds = new LinkedHashMap<>();
+        for (Change change : latest.values()) {
+            if (change.deleted()) {
+                deleted.add(new SyncResponse.Tombstone(change.entityType(), change.entityId()));
+            } else {
+                changedIds.computeIfAbsent(change.entityType(), type -> new ArrayList<>()).add(change.entityId());
+            }
+        }
+
+        // 키 조회 후 다시 바뀐 항목은 더 새로운 상태가 담기고, 이후 페이지에서 한 번 더 옴 (적용은 멱등)
+        Change last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return SyncResponse.builder()
+                .tasks(taskRepository.findAllById(changedIds.getOrDefault("Task", List.of())).stream()
+                        .map(TaskResponse::from)
+                        .collect(Collectors.toList()))
+                .logs(taskLogRepository.findAllById(changedIds.getOrDefault("TaskLog", List.of())).stream()
+                        .map(TaskLogResponse::from)
+                        .collect(Collectors.toList()))
+                .settings(recurringTaskSettingRepository.findAllById(changedIds.getOrDefault("RecurringTaskSetting", List.of())))
+                .deleted(deleted)
+                .nextCursor(last != null ? CursorUtil.encode(last.xid(), last.seq()) : since)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 매일 4시 45분 AM: 보존 기간이 지난 tombstone 삭제
+     * 삭제한 범위까지를 sync_state.min_xid로 올려, 그 이전 커서는 전체 다시 조회하도록 함
+     */
+    @Scheduled(cron = "0 45 4 * * ?")
+    @Transactional
+    public void pruneTombstones() {
+        try {
+            Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+            Long prunedMaxXid = jdbcTemplate.queryForObject(
+                    "WITH pruned AS (DELETE FROM sync_tombstones WHERE deleted_at < ? RETURNING change_xid) " +
+                    "SELECT MAX(change_xid) FROM pruned", Long.class, cutoff);
+            if (prunedMaxXid != null) {
+                jdbcTemplate.update("UPDATE sync_state SET min_xid = GREATEST(min_xid, ?) WHERE id = 1", prunedMaxXid);
+                log.info("Pruned sync tombstones before {} (min xid {})", cutoff, prunedMaxXid);
+            }
+        } catch (Exception e) {
+            log.error("Error pruning sync tombstones", e);
+        }
+    }
+}
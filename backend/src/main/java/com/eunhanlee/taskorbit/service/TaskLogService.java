@@ -1,17 +1,31 @@
 package com.eunhanlee.taskorbit.service;
 
+import com.eunhanlee.taskorbit.dto.ChangeEvent;
+import com.eunhanlee.taskorbit.dto.TaskLogResponse;
 import com.eunhanlee.taskorbit.entity.Task;
+import com.eunhanlee.taskorbit.entity.TaskHistory;
 import com.eunhanlee.taskorbit.entity.TaskLog;
+import com.eunhanlee.taskorbit.entity.enums.ActionType;
+import com.eunhanlee.taskorbit.repository.TaskHistoryRepository;
 import com.eunhanlee.taskorbit.repository.TaskLogRepository;
 import com.eunhanlee.taskorbit.repository.TaskRepository;
+import com.eunhanlee.taskorbit.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -21,12 +35,17 @@ public class TaskLogService {
 
     private final TaskLogRepository taskLogRepository;
     private final TaskRepository taskRepository;
+    private final TaskHistoryRepository taskHistoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadCache readCache;
+    private final ChangeEventService changeEventService;
+
+    private static final int STREAM_FETCH_SIZE = 500;
 
     // 특정 작업의 최신 로그 조회 (Next Action 표시용)
     public Optional<TaskLog> getLatestLog(Long taskId) {
         try {
-            List<TaskLog> logs = taskLogRepository.findLatestLogsByTaskId(taskId);
-            return logs.isEmpty() ? Optional.empty() : Optional.of(logs.get(0));
+            return taskLogRepository.findFirstByTaskIdOrderByDateDescCreatedAtDesc(taskId);
         } catch (Exception e) {
             log.error("Error fetching latest log for taskId: {}", taskId, e);
             return Optional.empty();
@@ -40,9 +59,65 @@ public class TaskLogService {
         return taskLogRepository.findByTaskOrderByDateDesc(task);
     }
 
+    // 특정 작업의 로그 페이지 조회: 다음 페이지 판단을 위해 size + 1건까지 반환
+    public List<TaskLog> getTaskLogPage(Long taskId, String cursor, int size) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new RuntimeException("Task not found with id: " + taskId);
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return taskLogRepository.findPageByTaskId(taskId, size + 1);
+        }
+        
+        String[] parts = CursorUtil.decode(cursor, 3);
+        try {
+            return taskLogRepository.findPageByTaskIdAfterCursor(
+                    taskId,
+                    LocalDate.parse(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2]),
+                    size + 1);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // 작업 존재 여부 (스트리밍 응답을 시작하기 전에 404 판단용)
+    public boolean taskExists(Long taskId) {
+        return taskRepository.existsById(taskId);
+    }
+
+    // 특정 작업의 로그를 JDBC 커서로 읽으면서 한 건씩 전달 (전체 목록을 메모리에 만들지 않음)
+    public void streamTaskLogs(Long taskId, Consumer<TaskLogResponse> consumer) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new RuntimeException("Task not found with id: " + taskId);
+        }
+        
+        RowCallbackHandler handler = rs -> consumer.accept(TaskLogResponse.builder()
+                .id(rs.getLong("id"))
+                .taskId(rs.getLong("task_id"))
+                .date(rs.getObject("date", LocalDate.class))
+                .content(rs.getString("content"))
+                .nextAction(rs.getString("next_action"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .build());
+        
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "SELECT id, task_id, date, content, next_action, created_at, updated_at " +
+                    "FROM task_logs WHERE task_id = ? " +
+                    "ORDER BY date DESC, created_at DESC, id DESC");
+            // 트랜잭션 안에서 fetch size를 지정해야 PostgreSQL 드라이버가 커서로 나눠 읽음
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            ps.setLong(1, taskId);
+            return ps;
+        }, handler);
+    }
+
     // 로그 생성
     @Transactional
     public TaskLog createLog(Long taskId, TaskLog taskLog) {
+        readCache.invalidate(ReadCache.TASK_REGIONS);
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
         
@@ -51,51 +126,38 @@ public class TaskLogService {
             taskLog.setDate(LocalDate.now());
         }
         
-        // History Log 업데이트: 모든 기존 로그를 날짜순으로 가져와서 누적
-        List<TaskLog> allLogs = taskLogRepository.findByTaskIdOrderByDateDesc(taskId);
-        StringBuilder historyBuilder = new StringBuilder();
-        
-        // 날짜순으로 정렬 (오래된 것부터) - 내림차순으로 가져온 것을 오름차순으로 정렬
-        allLogs.sort((a, b) -> {
-            int dateCompare = a.getDate().compareTo(b.getDate());
-            if (dateCompare != 0) return dateCompare;
-            // 같은 날짜면 생성 시간순
-            return a.getCreatedAt().compareTo(b.getCreatedAt());
-        });
+        // 더 늦은 날짜의 로그가 없으면 History Log 끝에 추가만 하면 됨
+        boolean appendsToEnd = !taskLogRepository.existsByTaskIdAndDateGreaterThan(taskId, taskLog.getDate());
         
-        for (TaskLog log : allLogs) {
-            if (log.getContent() != null && !log.getContent().trim().isEmpty()) {
-                if (historyBuilder.length() > 0) {
-                    historyBuilder.append("\n\n");
-                }
-                historyBuilder.append(log.getDate().toString())
-                             .append(":\n")
-                             .append(log.getContent());
-            }
-        }
+        TaskLog saved = taskLogRepository.save(taskLog);
         
-        // 새 로그의 내용 추가
-        if (taskLog.getContent() != null && !taskLog.getContent().trim().isEmpty()) {
-            if (historyBuilder.length() > 0) {
-                historyBuilder.append("\n\n");
+        // History Log 업데이트: 끝에 추가 또는 (과거 날짜 로그인 경우) 작업 단위 재구성
+        if (hasContent(saved.getContent())) {
+            if (appendsToEnd) {
+                taskHistoryRepository.appendEntry(taskId, toHistoryEntry(saved));
+            } else {
+                taskHistoryRepository.rebuild(taskId);
             }
-            historyBuilder.append(taskLog.getDate().toString())
-                         .append(":\n")
-                         .append(taskLog.getContent());
         }
+        taskRepository.refreshLatestNextAction(taskId);
+        publishChange(saved.getId(), taskId, ActionType.CREATE);
         
-        taskLog.setHistoryLog(historyBuilder.toString());
-        
-        return taskLogRepository.save(taskLog);
+        return saved;
     }
 
-    // 로그 수정
+    // 로그 수정 (expectedVersion이 있으면 현재 버전과 같을 때만)
     @Transactional
-    public TaskLog updateLog(Long logId, TaskLog updatedLog) {
+    public TaskLog updateLog(Long logId, TaskLog updatedLog, Long expectedVersion) {
+        readCache.invalidate(ReadCache.TASK_REGIONS);
         TaskLog taskLog = taskLogRepository.findById(logId)
                 .orElseThrow(() -> new RuntimeException("TaskLog not found with id: " + logId));
+        if (expectedVersion != null && !expectedVersion.equals(taskLog.getVersion())) {
+            throw new OptimisticLockingFailureException("TaskLog version mismatch for id: " + logId);
+        }
         
         Long taskId = taskLog.getTask().getId();
+        String oldContent = taskLog.getContent();
+        LocalDate oldDate = taskLog.getDate();
         
         if (updatedLog.getContent() != null) {
             taskLog.setContent(updatedLog.getContent());
@@ -109,83 +171,51 @@ public class TaskLogService {
         
         TaskLog saved = taskLogRepository.save(taskLog);
         
-        // History Log 재계산: 모든 로그를 날짜순으로 가져와서 누적
-        updateHistoryLogForTask(taskId);
-        
-        return saved;
-    }
-    
-    // 특정 작업의 모든 로그의 History Log 업데이트
-    @Transactional
-    private void updateHistoryLogForTask(Long taskId) {
-        List<TaskLog> allLogs = taskLogRepository.findByTaskIdOrderByDateDesc(taskId);
-        
-        // 날짜순으로 정렬 (오래된 것부터) - 내림차순으로 가져온 것을 오름차순으로 정렬
-        allLogs.sort((a, b) -> {
-            int dateCompare = a.getDate().compareTo(b.getDate());
-            if (dateCompare != 0) return dateCompare;
-            // 같은 날짜면 생성 시간순
-            return a.getCreatedAt().compareTo(b.getCreatedAt());
-        });
-        
-        StringBuilder historyBuilder = new StringBuilder();
-        for (TaskLog log : allLogs) {
-            if (log.getContent() != null && !log.getContent().trim().isEmpty()) {
-                if (historyBuilder.length() > 0) {
-                    historyBuilder.append("\n\n");
-                }
-                historyBuilder.append(log.getDate().toString())
-                             .append(":\n")
-                             .append(log.getContent());
-            }
+        // History Log 재계산: 내용이나 날짜가 바뀐 경우에만 (nextAction만 수정 시 생략)
+        boolean historyChanged = !Objects.equals(oldContent, saved.getContent())
+                || !Objects.equals(oldDate, saved.getDate());
+        if (historyChanged && (hasContent(oldContent) || hasContent(saved.getContent()))) {
+            taskHistoryRepository.rebuild(taskId);
         }
+        taskRepository.refreshLatestNextAction(taskId);
+        publishChange(saved.getId(), taskId, ActionType.UPDATE);
         
-        // 모든 로그의 historyLog 업데이트
-        String accumulatedHistory = historyBuilder.toString();
-        for (TaskLog log : allLogs) {
-            log.setHistoryLog(accumulatedHistory);
-            taskLogRepository.save(log);
-        }
+        return saved;
     }
 
     // 로그 삭제
     @Transactional
     public void deleteLog(Long logId) {
+        readCache.invalidate(ReadCache.TASK_REGIONS);
         TaskLog taskLog = taskLogRepository.findById(logId)
                 .orElseThrow(() -> new RuntimeException("TaskLog not found with id: " + logId));
         Long taskId = taskLog.getTask().getId();
+        boolean hadContent = hasContent(taskLog.getContent());
         
         taskLogRepository.deleteById(logId);
         
-        // History Log 재계산
-        updateHistoryLogForTask(taskId);
+        // History Log 재계산 (내용이 있던 로그만 영향)
+        if (hadContent) {
+            taskHistoryRepository.rebuild(taskId);
+        }
+        taskRepository.refreshLatestNextAction(taskId);
+        publishChange(logId, taskId, ActionType.DELETE);
+    }
+
+    // latest_next_action 전체 재구성 (복구 작업)
+    @Transactional
+    public int rebuildLatestNextActions() {
+        readCache.invalidate(ReadCache.TASK_REGIONS);
+        int updated = taskRepository.rebuildLatestNextActions();
+        log.info("Rebuilt latest next action for {} tasks", updated);
+        return updated;
     }
     
-    // 누적된 History Log 조회 (모든 로그의 Content를 날짜순으로 누적)
+    // 누적된 History Log 조회 (작업당 한 행으로 보관)
     public String getAccumulatedHistoryLog(Long taskId) {
-        List<TaskLog> allLogs = taskLogRepository.findByTaskIdOrderByDateDesc(taskId);
-        
-        // 날짜순으로 정렬 (오래된 것부터) - 내림차순으로 가져온 것을 오름차순으로 정렬
-        allLogs.sort((a, b) -> {
-            int dateCompare = a.getDate().compareTo(b.getDate());
-            if (dateCompare != 0) return dateCompare;
-            // 같은 날짜면 생성 시간순
-            return a.getCreatedAt().compareTo(b.getCreatedAt());
-        });
-        
-        StringBuilder historyBuilder = new StringBuilder();
-        for (TaskLog log : allLogs) {
-            if (log.getContent() != null && !log.getContent().trim().isEmpty()) {
-                if (historyBuilder.length() > 0) {
-                    historyBuilder.append("\n\n");
-                }
-                historyBuilder.append(log.getDate().toString())
-                             .append(":\n")
-                             .append(log.getContent());
-            }
-        }
-        
-        return historyBuilder.toString();
+        return taskHistoryRepository.findById(taskId)
+                .map(TaskHistory::getHistoryLog)
+                .orElse("");
     }
 
     // 특정 날짜의 로그 조회
@@ -199,5 +229,24 @@ public class TaskLogService {
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
         return taskLogRepository.findByTaskAndDate(task, date);
     }
+
+    // 작업 로그 변경 이벤트 (작업의 nextAction도 바뀌므로 taskId 포함)
+    private void publishChange(Long logId, Long taskId, ActionType action) {
+        changeEventService.publish(ChangeEvent.builder()
+                .entityType("TaskLog")
+                .entityId(logId)
+                .taskId(taskId)
+                .action(action.name())
+                .build());
+    }
+
+    private static boolean hasContent(String content) {
+        return content != null && !content.trim().isEmpty();
+    }
+
+    // History Log 한 항목 형식: "yyyy-MM-dd:\n내용"
+    private static String toHistoryEntry(TaskLog taskLog) {
+        return taskLog.getDate().toString() + ":\n" + taskLog.getContent();
+    }
 }
 
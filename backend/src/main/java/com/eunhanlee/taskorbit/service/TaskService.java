@@ -1,20 +1,41 @@
 package com.eunhanlee.taskorbit.service;
 
+import com.eunhanlee.taskorbit.dto.BulkTaskOperation;
+import com.eunhanlee.taskorbit.dto.BulkTaskResult;
+import com.eunhanlee.taskorbit.dto.TaskRecordResponse;
+import com.eunhanlee.taskorbit.dto.TaskRequest;
+import com.eunhanlee.taskorbit.dto.TaskResponse;
+import com.eunhanlee.taskorbit.entity.GlobalLog;
 import com.eunhanlee.taskorbit.entity.Task;
 import com.eunhanlee.taskorbit.entity.TaskCompletionRecord;
 import com.eunhanlee.taskorbit.entity.enums.ActionType;
+import com.eunhanlee.taskorbit.entity.enums.TaskSize;
 import com.eunhanlee.taskorbit.entity.enums.TaskStatus;
 import com.eunhanlee.taskorbit.repository.TaskCompletionRecordRepository;
 import com.eunhanlee.taskorbit.repository.TaskRepository;
+import com.eunhanlee.taskorbit.util.CursorUtil;
 import com.eunhanlee.taskorbit.util.TaskConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +46,39 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final TaskCompletionRecordRepository completionRecordRepository;
     private final GlobalLogService globalLogService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadCache readCache;
+    private final ChangeEventService changeEventService;
+
+    private static final RowMapper<Task> TASK_ROW_MAPPER = new BeanPropertyRowMapper<>(Task.class);
+
+    // 상태 전이: 대상 상태가 아닌 행을 잠그고 변경, 변경된 행과 변경 전 상태를 반환 (%s: 같은 문장에서 실행할 CTE)
+    private static final String TRANSITION_SQL =
+            "WITH prev AS (SELECT id, status FROM tasks WHERE id = ? AND status <> ? FOR UPDATE), " +
+            "updated AS (UPDATE tasks t SET status = ?, version = t.version + 1 FROM prev WHERE t.id = prev.id " +
+            "RETURNING t.*, prev.status AS previous_status)%s " +
+            "SELECT * FROM updated";
+
+    // 부분 수정 가능한 필드 (요청 필드명 → 컬럼명)
+    private static final Map<String, String> PATCH_COLUMNS = Map.of(
+            "title", "title",
+            "category", "category",
+            "size", "size",
+            "status", "status",
+            "dueDate", "due_date");
+
+    private static final Set<String> REQUIRED_PATCH_FIELDS = Set.of("title", "status", "dueDate");
+
+    private static final String STATUS_SQL = String.format(TRANSITION_SQL, "");
+
+    // 완료: 완료 기록 생성 (이미 있으면 무시)
+    private static final String COMPLETE_SQL = String.format(TRANSITION_SQL,
+            ", recorded AS (INSERT INTO task_completion_records (task_id, completed_date) " +
+            "SELECT id, ? FROM updated ON CONFLICT (task_id) DO NOTHING)");
+
+    // 완료 취소: 완료 기록 삭제
+    private static final String UNCOMPLETE_SQL = String.format(TRANSITION_SQL,
+            ", removed AS (DELETE FROM task_completion_records WHERE task_id IN (SELECT id FROM updated))");
 
     // Today 탭: due_date <= today인 작업들
     public List<Task> getTodayTasks() {
@@ -43,19 +97,89 @@ public class TaskService {
         return taskRepository.findByStatusOrderByUpdatedAtDesc(TaskStatus.DONE);
     }
 
-    // Record 탭: 완료 기록이 있는 작업들
-    public List<Task> getRecordTasks() {
-        // TaskCompletionRecord를 통해 완료된 작업들을 조회
-        return completionRecordRepository.findAllByOrderByCompletedDateDesc()
-                .stream()
-                .map(TaskCompletionRecord::getTask)
-                .distinct()
-                .toList();
+    // Record 탭: 완료 기록이 있는 작업들 (작업당 1건, 완료 횟수/최초·최근 완료일 포함)
+    public List<TaskRecordResponse> getRecordTasks() {
+        return completionRecordRepository.findRecordPage(Limit.unlimited());
+    }
+
+    // Today 탭 페이지 조회: 다음 페이지 판단을 위해 limit + 1건까지 반환
+    public List<Task> getTodayTasks(String cursor, int limit) {
+        LocalDate today = LocalDate.now();
+        if (cursor == null || cursor.isBlank()) {
+            return taskRepository.findTodayPage(today, limit + 1);
+        }
+        
+        String[] parts = CursorUtil.decode(cursor, 3);
+        try {
+            return taskRepository.findTodayPageAfterCursor(
+                    today,
+                    LocalDate.parse(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2]),
+                    limit + 1);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // Later 탭 페이지 조회: 다음 페이지 판단을 위해 limit + 1건까지 반환
+    public List<Task> getLaterTasks(String cursor, int limit) {
+        LocalDate today = LocalDate.now();
+        if (cursor == null || cursor.isBlank()) {
+            return taskRepository.findLaterPage(today, limit + 1);
+        }
+        
+        String[] parts = CursorUtil.decode(cursor, 3);
+        try {
+            return taskRepository.findLaterPageAfterCursor(
+                    today,
+                    LocalDate.parse(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Long.parseLong(parts[2]),
+                    limit + 1);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // Done 탭 페이지 조회: 다음 페이지 판단을 위해 limit + 1건까지 반환
+    public List<Task> getDoneTasks(String cursor, int limit) {
+        if (cursor == null || cursor.isBlank()) {
+            return taskRepository.findDonePage(limit + 1);
+        }
+        
+        String[] parts = CursorUtil.decode(cursor, 2);
+        try {
+            return taskRepository.findDonePageAfterCursor(
+                    LocalDateTime.parse(parts[0]),
+                    Long.parseLong(parts[1]),
+                    limit + 1);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // Record 탭 페이지 조회: (마지막 완료일, 작업 id) 기준, limit + 1건까지 반환
+    public List<TaskRecordResponse> getRecordTasks(String cursor, int limit) {
+        if (cursor == null || cursor.isBlank()) {
+            return completionRecordRepository.findRecordPage(Limit.of(limit + 1));
+        }
+        
+        String[] parts = CursorUtil.decode(cursor, 2);
+        try {
+            return completionRecordRepository.findRecordPageAfterCursor(
+                    LocalDate.parse(parts[0]),
+                    Long.parseLong(parts[1]),
+                    Limit.of(limit + 1));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
     }
 
     // 작업 생성
     @Transactional
     public Task createTask(Task task) {
+        readCache.invalidate(ReadCache.TASK_REGIONS);
         // 새 작업 생성 시 due_date를 오늘로 설정
         if (task.getDueDate() == null) {
             task.setDueDate(LocalDate.now());
@@ -65,14 +189,17 @@ public class TaskService {
         }
         Task savedTask = taskRepository.save(task);
         
-        // GlobalLog 기록
-        globalLogService.createLog(
-            "Task",
-            savedTask.getId(),
-            ActionType.CREATE,
-            null,
-            TaskConverter.taskToMap(savedTask)
-        );
+        // GlobalLog 기록 (TRIGGER 모드면 DB 트리거가 같은 문장에서 기록)
+        if (globalLogService.capturesInApp()) {
+            globalLogService.createLog(
+                "Task",
+                savedTask.getId(),
+                ActionType.CREATE,
+                null,
+                TaskConverter.taskToMap(savedTask)
+            );
+        }
+        changeEventService.publish("Task", savedTask.getId(), ActionType.CREATE.name());
         
         return savedTask;
     }
@@ -83,185 +210,224 @@ public class TaskService {
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
     }
 
-    // 작업 수정
+    // 작업 수정 (expectedVersion이 있으면 현재 버전과 같을 때만, 커밋 시 @Version으로 동시 수정 재확인)
     @Transactional
-    public Task updateTask(Long id, Task updatedTask) {
+    public Task updateTask(Long id, Task updatedTask, Long expectedVersion) {
+        readCache.invalidate(ReadCache.TASK_REGIONS);
         Task task = getTask(id);
-        Map<String, Object> oldData = TaskConverter.taskToMap(task);
+        checkVersion(task, expectedVersion);
+        Map<String, Object> oldData = globalLogService.capturesInApp() ? TaskConverter.taskToMap(task) : null;
         
-        if (updatedTask.getTitle() != null) {
-            task.setTitle(updatedTask.getTitle());
+        applyUpdate(task, updatedTask);
+        
+        Task savedTask = taskRepository.save(task);
+        
+        // GlobalLog 기록 (TRIGGER 모드면 DB 트리거가 같은 문장에서 기록)
+        if (globalLogService.capturesInApp()) {
+            globalLogService.createLog(
+                "Task",
+                savedTask.getId(),
+                ActionType.UPDATE,
+                oldData,
+                TaskConverter.taskToMap(savedTask)
+            );
         }
-        if (updatedTask.getCategory() != null) {
-            task.setCategory(updatedTask.getCategory());
+        changeEventService.publish("Task", savedTask.getId(), ActionType.UPDATE.name());
+        
+        return savedTask;
+    }
+
+    /**
+     * 부분 수정 (JSON merge patch): 요청에 들어 있는 필드만 UPDATE ... RETURNING 한 번으로 변경 (먼저 조회하지 않음)
+     * null 값은 컬럼을 비움 (필수 컬럼이면 IllegalArgumentException)
+     * expectedVersion이 있으면 같은 문장에서 버전을 비교하고, 다르면 OptimisticLockingFailureException
+     */
+    @Transactional
+    public Task patchTask(Long id, Map<String, Object> fields, Long expectedVersion) {
+        readCache.invalidate(ReadCache.TASK_REGIONS);
+        List<String> names = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        args.add(id);
+        for (Map.Entry<String, Object> field : fields.entrySet()) {
+            names.add(field.getKey());
+            args.add(toPatchValue(field.getKey(), field.getValue()));
         }
-        if (updatedTask.getSize() != null) {
-            task.setSize(updatedTask.getSize());
+        if (names.isEmpty()) {
+            Task task = getTask(id);
+            checkVersion(task, expectedVersion);
+            return task;
         }
-        if (updatedTask.getStatus() != null) {
-            task.setStatus(updatedTask.getStatus());
+        
+        StringBuilder sql = new StringBuilder("WITH prev AS (SELECT * FROM tasks WHERE id = ? FOR UPDATE) UPDATE tasks t SET ");
+        for (String name : names) {
+            sql.append(PATCH_COLUMNS.get(name)).append(" = ?, ");
         }
-        if (updatedTask.getDueDate() != null) {
-            task.setDueDate(updatedTask.getDueDate());
+        sql.append("version = t.version + 1 FROM prev WHERE t.id = prev.id");
+        if (expectedVersion != null) {
+            sql.append(" AND prev.version = ?");
+            args.add(expectedVersion);
+        }
+        sql.append(" RETURNING t.*");
+        for (String name : names) {
+            sql.append(", prev.").append(PATCH_COLUMNS.get(name)).append(" AS previous_").append(PATCH_COLUMNS.get(name));
         }
         
-        Task savedTask = taskRepository.save(task);
+        List<Map<String, Object>> oldValues = new ArrayList<>(1);
+        List<Task> rows = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            Map<String, Object> previous = new HashMap<>();
+            for (String name : names) {
+                previous.put(name, rs.getString("previous_" + PATCH_COLUMNS.get(name)));
+            }
+            oldValues.add(previous);
+            return TASK_ROW_MAPPER.mapRow(rs, rowNum);
+        }, args.toArray());
         
-        // GlobalLog 기록
-        globalLogService.createLog(
-            "Task",
-            savedTask.getId(),
-            ActionType.UPDATE,
-            oldData,
-            TaskConverter.taskToMap(savedTask)
-        );
+        if (rows.isEmpty()) {
+            if (!taskRepository.existsById(id)) {
+                throw new RuntimeException("Task not found with id: " + id);
+            }
+            throw new OptimisticLockingFailureException("Task version mismatch for id: " + id);
+        }
         
-        return savedTask;
+        Task task = rows.get(0);
+        
+        // GlobalLog 기록 (TRIGGER 모드면 DB 트리거가 같은 문장에서 기록)
+        if (globalLogService.capturesInApp()) {
+            Map<String, Object> newData = TaskConverter.taskToMap(task);
+            Map<String, Object> oldData = new HashMap<>(newData);
+            oldData.putAll(oldValues.get(0));
+            globalLogService.createLog(
+                "Task",
+                task.getId(),
+                ActionType.UPDATE,
+                oldData,
+                newData
+            );
+        }
+        changeEventService.publish("Task", task.getId(), ActionType.UPDATE.name());
+        
+        return task;
     }
 
     // 작업 삭제
     @Transactional
     public void deleteTask(Long id) {
+        deleteTask(id, null);
+    }
+
+    // 작업 삭제 (expectedVersion이 있으면 현재 버전과 같을 때만)
+    @Transactional
+    public void deleteTask(Long id, Long expectedVersion) {
+        readCache.invalidate(ReadCache.TASK_REGIONS);
         Task task = getTask(id);
-        Map<String, Object> oldData = TaskConverter.taskToMap(task);
+        checkVersion(task, expectedVersion);
+        Map<String, Object> oldData = globalLogService.capturesInApp() ? TaskConverter.taskToMap(task) : null;
         
         taskRepository.deleteById(id);
         
-        // GlobalLog 기록
-        globalLogService.createLog(
-            "Task",
-            id,
-            ActionType.DELETE,
-            oldData,
-            null
-        );
+        // GlobalLog 기록 (TRIGGER 모드면 DB 트리거가 같은 문장에서 기록)
+        if (globalLogService.capturesInApp()) {
+            globalLogService.createLog(
+                "Task",
+                id,
+                ActionType.DELETE,
+                oldData,
+                null
+            );
+        }
+        changeEventService.publish("Task", id, ActionType.DELETE.name());
     }
 
-    // 작업 완료 처리
+    // 작업 완료 처리 (완료 기록은 같은 문장에서 생성)
     @Transactional
     public Task completeTask(Long id) {
-        Task task = getTask(id);
-        Map<String, Object> oldData = TaskConverter.taskToMap(task);
-        
-        task.setStatus(TaskStatus.DONE);
-        
-        // 완료 기록 생성
-        TaskCompletionRecord record = TaskCompletionRecord.builder()
-                .task(task)
-                .completedDate(LocalDate.now())
-                .build();
-        completionRecordRepository.save(record);
-        
-        Task savedTask = taskRepository.save(task);
-        
-        // GlobalLog 기록
-        globalLogService.createLog(
-            "Task",
-            savedTask.getId(),
-            ActionType.UPDATE,
-            oldData,
-            TaskConverter.taskToMap(savedTask)
-        );
-        
-        return savedTask;
+        return completeTask(id, null);
     }
 
-    // 작업 완료 취소 (Done → Ongoing)
+    @Transactional
+    public Task completeTask(Long id, Long expectedVersion) {
+        return transition(COMPLETE_SQL, id, expectedVersion, TaskStatus.DONE, LocalDate.now());
+    }
+
+    // 작업 완료 취소 (Done → Ongoing, 완료 기록은 같은 문장에서 삭제)
     @Transactional
     public Task uncompleteTask(Long id) {
-        Task task = getTask(id);
-        Map<String, Object> oldData = TaskConverter.taskToMap(task);
-        
-        // 완료 기록 삭제
-        completionRecordRepository.findByTaskId(id).ifPresent(completionRecordRepository::delete);
-        
-        // 상태를 Ongoing으로 변경
-        task.setStatus(TaskStatus.ONGOING);
-        
-        Task savedTask = taskRepository.save(task);
-        
-        // GlobalLog 기록
-        globalLogService.createLog(
-            "Task",
-            savedTask.getId(),
-            ActionType.UPDATE,
-            oldData,
-            TaskConverter.taskToMap(savedTask)
-        );
-        
-        return savedTask;
+        return uncompleteTask(id, null);
+    }
+
+    @Transactional
+    public Task uncompleteTask(Long id, Long expectedVersion) {
+        return transition(UNCOMPLETE_SQL, id, expectedVersion, TaskStatus.ONGOING);
     }
 
     // 작업을 Waiting 상태로 변경
     @Transactional
     public Task setTaskWaiting(Long id) {
-        Task task = getTask(id);
-        Map<String, Object> oldData = TaskConverter.taskToMap(task);
-        
-        task.setStatus(TaskStatus.WAITING);
-        Task savedTask = taskRepository.save(task);
-        
-        // GlobalLog 기록
-        globalLogService.createLog(
-            "Task",
-            savedTask.getId(),
-            ActionType.UPDATE,
-            oldData,
-            TaskConverter.taskToMap(savedTask)
-        );
-        
-        return savedTask;
+        return setTaskWaiting(id, null);
+    }
+
+    @Transactional
+    public Task setTaskWaiting(Long id, Long expectedVersion) {
+        return transition(STATUS_SQL, id, expectedVersion, TaskStatus.WAITING);
     }
 
     // 작업을 Ongoing 상태로 활성화 (Waiting에서 활성화)
     @Transactional
     public Task activateTask(Long id) {
-        Task task = getTask(id);
-        Map<String, Object> oldData = TaskConverter.taskToMap(task);
-        
-        task.setStatus(TaskStatus.ONGOING);
-        Task savedTask = taskRepository.save(task);
-        
-        // GlobalLog 기록
-        globalLogService.createLog(
-            "Task",
-            savedTask.getId(),
-            ActionType.UPDATE,
-            oldData,
-            TaskConverter.taskToMap(savedTask)
-        );
-        
-        return savedTask;
+        return activateTask(id, null);
     }
 
-    // 미완료 작업의 due_date를 다음날로 롤오버
     @Transactional
-    public void rolloverIncompleteTasks() {
-        LocalDate today = LocalDate.now();
-        List<Task> incompleteTasks = taskRepository.findByDueDateLessThanEqual(today)
-                .stream()
-                .filter(task -> task.getStatus() != TaskStatus.DONE)
-                .toList();
+    public Task activateTask(Long id, Long expectedVersion) {
+        return transition(STATUS_SQL, id, expectedVersion, TaskStatus.ONGOING);
+    }
+
+    /**
+     * 상태 전이를 UPDATE ... RETURNING 한 번으로 처리
+     * 이미 대상 상태이면 아무것도 바꾸지 않고 로그도 남기지 않음 (중복 클릭/동시 요청에도 한 번만 적용)
+     * expectedVersion이 있으면 행을 잠그고 먼저 버전을 비교 (다르면 OptimisticLockingFailureException)
+     */
+    private Task transition(String sql, Long id, Long expectedVersion, TaskStatus status, Object... extraArgs) {
+        if (expectedVersion != null) {
+            List<Long> versions = jdbcTemplate.queryForList("SELECT version FROM tasks WHERE id = ? FOR UPDATE", Long.class, id);
+            if (!versions.isEmpty() && !expectedVersion.equals(versions.get(0))) {
+                throw new OptimisticLockingFailureException("Task version mismatch for id: " + id);
+            }
+        }
+        Object[] args = new Object[3 + extraArgs.length];
+        args[0] = id;
+        args[1] = status.name();
+        args[2] = status.name();
+        System.arraycopy(extraArgs, 0, args, 3, extraArgs.length);
         
-        for (Task task : incompleteTasks) {
-            task.setDueDate(today.plusDays(1));
-            taskRepository.save(task);
+        List<Transition> rows = jdbcTemplate.query(sql, (rs, rowNum) -> new Transition(
+                TASK_ROW_MAPPER.mapRow(rs, rowNum), TaskStatus.valueOf(rs.getString("previous_status"))), args);
+        if (rows.isEmpty()) {
+            return getTask(id);
         }
         
-        log.info("Rolled over {} incomplete tasks", incompleteTasks.size());
-    }
-
-    // Waiting 상태를 Ongoing으로 변경 (3시 AM에 실행)
-    @Transactional
-    public void activateWaitingTasks() {
-        List<Task> waitingTasks = taskRepository.findByStatus(TaskStatus.WAITING);
+        Task task = rows.get(0).task();
+        readCache.invalidate(ReadCache.TASK_REGIONS);
         
-        for (Task task : waitingTasks) {
-            task.setStatus(TaskStatus.ONGOING);
-            taskRepository.save(task);
+        // GlobalLog 기록 (TRIGGER 모드면 DB 트리거가 같은 문장에서 기록)
+        if (globalLogService.capturesInApp()) {
+            Map<String, Object> newData = TaskConverter.taskToMap(task);
+            Map<String, Object> oldData = new HashMap<>(newData);
+            oldData.put("status", rows.get(0).previousStatus().name());
+            globalLogService.createLog(
+                "Task",
+                task.getId(),
+                ActionType.UPDATE,
+                oldData,
+                newData
+            );
         }
+        changeEventService.publish("Task", task.getId(), ActionType.UPDATE.name());
         
-        log.info("Activated {} waiting tasks", waitingTasks.size());
+        return task;
+    }
+
+    private record Transition(Task task, TaskStatus previousStatus) {
     }
 
     // 카테고리별 조회
@@ -273,5 +439,224 @@ public class TaskService {
     public List<Task> getTasksByStatus(TaskStatus status) {
         return taskRepository.findByStatus(status);
     }
-}
 
+    /**
+     * 일괄 작업: 모든 항목을 한 트랜잭션에서 처리
+     * - 대상 작업과 완료 기록 여부를 한 번씩 조회하고, INSERT/UPDATE는 flush 시 JDBC 배치, 삭제는 DELETE 한 번
+     * - GlobalLog는 하나의 묶음으로 기록되어 Undo/Redo 한 번에 전체가 되돌려짐
+     * 항목별 실패(작업 없음, 필수 값 누락)는 결과에 담고 나머지 항목은 계속 처리
+     */
+    @Transactional
+    public List<BulkTaskResult> bulkMutate(List<BulkTaskOperation> operations) {
+        readCache.invalidate(ReadCache.TASK_REGIONS);
+        Set<Long> ids = operations.stream()
+                .map(BulkTaskOperation::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Task> tasks = new HashMap<>();
+        Set<Long> recordedTaskIds = new HashSet<>();
+        if (!ids.isEmpty()) {
+            taskRepository.findAllById(ids).forEach(task -> tasks.put(task.getId(), task));
+            recordedTaskIds.addAll(completionRecordRepository.findTaskIdsByTaskIdIn(ids));
+        }
+        
+        boolean capture = globalLogService.capturesInApp();
+        List<TaskCompletionRecord> newRecords = new ArrayList<>();
+        List<Long> deleteIds = new ArrayList<>();
+        List<GlobalLog> logs = new ArrayList<>();
+        List<BulkTaskResult> results = new ArrayList<>(operations.size());
+        
+        for (int i = 0; i < operations.size(); i++) {
+            BulkTaskOperation operation = operations.get(i);
+            BulkTaskResult result = BulkTaskResult.builder()
+                    .index(i)
+                    .type(operation.getType())
+                    .id(operation.getId())
+                    .build();
+            results.add(result);
+            
+            if (operation.getType() == null) {
+                result.setError("Operation type is required");
+                continue;
+            }
+            
+            if (operation.getType() == BulkTaskOperation.Type.CREATE) {
+                TaskRequest request = operation.getTask();
+                if (request == null || request.getTitle() == null) {
+                    result.setError("Title is required");
+                    continue;
+                }
+                Task task = taskRepository.save(Task.builder()
+                        .title(request.getTitle())
+                        .category(request.getCategory())
+                        .size(request.getSize())
+                        .status(request.getStatus() != null ? request.getStatus() : TaskStatus.ONGOING)
+                        .dueDate(request.getDueDate() != null ? request.getDueDate() : LocalDate.now())
+                        .build());
+                tasks.put(task.getId(), task);
+                if (capture) {
+                    logs.add(taskLog(task.getId(), ActionType.CREATE, null, TaskConverter.taskToMap(task)));
+                }
+                result.setId(task.getId());
+                result.setSuccess(true);
+                result.setTask(TaskResponse.from(task));
+                continue;
+            }
+            
+            Task task = operation.getId() != null ? tasks.get(operation.getId()) : null;
+            if (task == null) {
+                result.setError("Task not found with id: " + operation.getId());
+                continue;
+            }
+            Map<String, Object> oldData = capture ? TaskConverter.taskToMap(task) : null;
+            
+            switch (operation.getType()) {
+                case UPDATE:
+                    if (operation.getTask() == null) {
+                        result.setError("Task fields are required");
+                        continue;
+                    }
+                    TaskRequest request = operation.getTask();
+                    applyUpdate(task, Task.builder()
+                            .title(request.getTitle())
+                            .category(request.getCategory())
+                            .size(request.getSize())
+                            .status(request.getStatus())
+                            .dueDate(request.getDueDate())
+                            .build());
+                    break;
+                    
+                case COMPLETE:
+                    task.setStatus(TaskStatus.DONE);
+                    if (recordedTaskIds.add(task.getId())) {
+                        newRecords.add(TaskCompletionRecord.builder()
+                                .task(task)
+                                .completedDate(LocalDate.now())
+                                .build());
+                    }
+                    break;
+                    
+                case WAITING:
+                    task.setStatus(TaskStatus.WAITING);
+                    break;
+                    
+                case ACTIVATE:
+                    task.setStatus(TaskStatus.ONGOING);
+                    break;
+                    
+                case DELETE:
+                    tasks.remove(task.getId());
+                    deleteIds.add(task.getId());
+                    if (capture) {
+                        logs.add(taskLog(task.getId(), ActionType.DELETE, oldData, null));
+                    }
+                    result.setSuccess(true);
+                    continue;
+                    
+                default:
+                    break;
+            }
+            
+            if (capture) {
+                logs.add(taskLog(task.getId(), ActionType.UPDATE, oldData, TaskConverter.taskToMap(task)));
+            }
+            result.setSuccess(true);
+            result.setTask(TaskResponse.from(task));
+        }
+        
+        completionRecordRepository.saveAll(newRecords);
+        if (!deleteIds.isEmpty()) {
+            // 삭제 전 보류 중인 변경은 자동 flush됨 (완료 기록 등은 CASCADE로 함께 삭제)
+            taskRepository.deleteAllByIdInBatch(deleteIds);
+        }
+        if (capture) {
+            globalLogService.createLogGroup(logs);
+        }
+        for (BulkTaskResult result : results) {
+            if (result.isSuccess()) {
+                changeEventService.publish("Task", result.getId(), bulkAction(result.getType()).name());
+            }
+        }
+        
+        return results;
+    }
+
+    // 일괄 작업 종류 → 변경 이벤트 action
+    private static ActionType bulkAction(BulkTaskOperation.Type type) {
+        switch (type) {
+            case CREATE:
+                return ActionType.CREATE;
+            case DELETE:
+                return ActionType.DELETE;
+            default:
+                return ActionType.UPDATE;
+        }
+    }
+
+    // If-Match로 받은 버전과 현재 버전 비교
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new OptimisticLockingFailureException("Task version mismatch for id: " + task.getId());
+        }
+    }
+
+    // merge patch 값 검증 및 컬럼 타입으로 변환 (enum은 이름, 날짜는 LocalDate)
+    private static Object toPatchValue(String name, Object value) {
+        if (!PATCH_COLUMNS.containsKey(name)) {
+            throw new IllegalArgumentException("Unknown field: " + name);
+        }
+        if (value == null) {
+            if (REQUIRED_PATCH_FIELDS.contains(name)) {
+                throw new IllegalArgumentException(name + " cannot be null");
+            }
+            return null;
+        }
+        if (!(value instanceof String text)) {
+            throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+        }
+        try {
+            switch (name) {
+                case "size":
+                    return TaskSize.valueOf(text).name();
+                case "status":
+                    return TaskStatus.valueOf(text).name();
+                case "dueDate":
+                    return LocalDate.parse(text);
+                default:
+                    return text;
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+        }
+    }
+
+    // 수정 요청에서 값이 있는 필드만 반영
+    private void applyUpdate(Task task, Task updatedTask) {
+        if (updatedTask.getTitle() != null) {
+            task.setTitle(updatedTask.getTitle());
+        }
+        if (updatedTask.getCategory() != null) {
+            task.setCategory(updatedTask.getCategory());
+        }
+        if (updatedTask.getSize() != null) {
+            task.setSize(updatedTask.getSize());
+        }
+        if (updatedTask.getStatus() != null) {
+            task.setStatus(updatedTask.getStatus());
+        }
+        if (updatedTask.getDueDate() != null) {
+            task.setDueDate(updatedTask.getDueDate());
+        }
+    }
+
+    private static GlobalLog taskLog(Long taskId, ActionType actionType,
+                                     Map<String, Object> oldData, Map<String, Object> newData) {
+        return GlobalLog.builder()
+                .entityType("Task")
+                .entityId(taskId)
+                .actionType(actionType)
+                .oldData(oldData)
+                .newData(newData)
+                .build();
+    }
+}
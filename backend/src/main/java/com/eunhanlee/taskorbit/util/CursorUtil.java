@@ -0,0 +1,36 @@
+package com.eunhanlee.taskorbit.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+public class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    // keyset 값들을 URL-safe 커서 문자열로 인코딩
+    public static String encode(Object... values) {
+        String joined = Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열을 keyset 값들로 디코딩 (형식 오류 시 IllegalArgumentException)
+    public static String[] decode(String cursor, int expectedParts) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        String[] parts = decoded.split("\\|", -1);
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return parts;
+    }
+}
+
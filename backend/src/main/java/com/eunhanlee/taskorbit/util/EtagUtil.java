@@ -0,0 +1,45 @@
+package com.eunhanlee.taskorbit.util;
+
+public class EtagUtil {
+
+    // 엔티티 버전을 ETag 값으로 ("3" 형식)
+    public static String format(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // If-Match 헤더에서 기대 버전 추출 (없거나 *이면 null, 형식 오류 시 IllegalArgumentException)
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match: " + ifMatch);
+        }
+    }
+
+    // If-None-Match 헤더가 etag와 일치하는지 (쉼표로 여러 값, W/는 약한 비교로 무시, *는 항상 일치)
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
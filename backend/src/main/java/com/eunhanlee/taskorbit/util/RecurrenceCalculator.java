@@ -0,0 +1,189 @@
+package com.eunhanlee.taskorbit.util;
+
+import com.eunhanlee.taskorbit.entity.enums.RecurrenceType;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * recurrence_config 기반 반복 일정 계산
+ *
+ * recurrence_config (모든 키 선택, 없으면 기준일 anchor 값 사용)
+ * - startDate: "yyyy-MM-dd" 기준일 (기본: 설정 생성일)
+ * - interval: N 일/주/월/년마다 (기본 1)
+ * - weekdays: ["MONDAY", "THURSDAY"] (WEEKLY)
+ * - dayOfMonth: 1~31, -1은 말일. 해당 월에 없는 날짜는 말일로 맞춤 (MONTHLY, YEARLY)
+ * - nthWeekday: {"week": 1~5 또는 -1(마지막), "weekday": "TUESDAY"} (MONTHLY, dayOfMonth 대신)
+ * - month: 1~12 (YEARLY)
+ */
+public class RecurrenceCalculator {
+
+    // 간격에 맞는 주기(주/월/년)를 하나씩 확인하는 최대 횟수 (예: 12개월 간격의 5번째 토요일은 수십 년에 한 번)
+    private static final int MAX_PERIODS = 1000;
+
+    /**
+     * from 이후(포함) 첫 반복일
+     * 기준일(startDate)부터 간격에 맞는 주기만 차례로 확인하고, 그 주기의 후보일이 없으면(5번째 요일 등) 다음 주기로.
+     * MAX_PERIODS개 주기 안에 없거나 설정 값이 잘못되면 IllegalArgumentException
+     */
+    public static LocalDate nextOccurrence(RecurrenceType type, Map<String, Object> config,
+                                           LocalDate anchor, LocalDate from) {
+        Map<String, Object> safeConfig = config != null ? config : Map.of();
+        LocalDate start = getDate(safeConfig, "startDate", anchor);
+        int interval = Math.max(1, getInt(safeConfig, "interval", 1));
+        LocalDate date = from.isBefore(start) ? start : from;
+
+        switch (type) {
+            case DAILY: {
+                long offset = ChronoUnit.DAYS.between(start, date) % interval;
+                return offset == 0 ? date : date.plusDays(interval - offset);
+            }
+            case WEEKLY: {
+                Set<DayOfWeek> weekdays = getWeekdays(safeConfig, start);
+                LocalDate startWeek = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                LocalDate week = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                week = week.plusWeeks(alignment(ChronoUnit.WEEKS.between(startWeek, week), interval));
+                for (int i = 0; i < MAX_PERIODS; i++, week = week.plusWeeks(interval)) {
+                    for (int day = 0; day < 7; day++) {
+                        LocalDate candidate = week.plusDays(day);
+                        if (!candidate.isBefore(date) && weekdays.contains(candidate.getDayOfWeek())) {
+                            return candidate;
+                        }
+                    }
+                }
+                break;
+            }
+            case MONTHLY: {
+                YearMonth month = YearMonth.from(date);
+                month = month.plusMonths(alignment(ChronoUnit.MONTHS.between(YearMonth.from(start), month), interval));
+                for (int i = 0; i < MAX_PERIODS; i++, month = month.plusMonths(interval)) {
+                    LocalDate candidate = monthlyCandidate(safeConfig, start, month);
+                    if (candidate != null && !candidate.isBefore(date)) {
+                        return candidate;
+                    }
+                }
+                break;
+            }
+            case YEARLY: {
+                int monthValue = getInt(safeConfig, "month", start.getMonthValue());
+                if (monthValue < 1 || monthValue > 12) {
+                    throw new IllegalArgumentException("Invalid month in recurrence_config: " + monthValue);
+                }
+                int dayOfMonth = getInt(safeConfig, "dayOfMonth", start.getDayOfMonth());
+                int year = date.getYear() + (int) alignment(date.getYear() - start.getYear(), interval);
+                for (int i = 0; i < MAX_PERIODS; i++, year += interval) {
+                    YearMonth month = YearMonth.of(year, monthValue);
+                    LocalDate candidate = month.atDay(resolveDay(dayOfMonth, month));
+                    if (!candidate.isBefore(date)) {
+                        return candidate;
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported recurrence type: " + type);
+        }
+        throw new IllegalArgumentException("No occurrence within " + MAX_PERIODS + " periods for "
+                + type + " recurrence_config: " + safeConfig);
+    }
+
+    // elapsed개 주기가 지난 시점에서 다음 간격 배수까지 남은 주기 수
+    private static long alignment(long elapsed, int interval) {
+        long offset = elapsed % interval;
+        return offset == 0 ? 0 : interval - offset;
+    }
+
+    // 해당 월의 반복일 (nthWeekday가 그 달에 없으면 null)
+    private static LocalDate monthlyCandidate(Map<String, Object> config, LocalDate start, YearMonth month) {
+        Object nthWeekday = config.get("nthWeekday");
+        if (nthWeekday instanceof Map<?, ?> nth) {
+            return nthWeekdayOf(nth, month);
+        }
+        return month.atDay(resolveDay(getInt(config, "dayOfMonth", start.getDayOfMonth()), month));
+    }
+
+    // 월의 n번째(또는 마지막) 특정 요일, 그 달에 n번째가 없으면 null
+    private static LocalDate nthWeekdayOf(Map<?, ?> nth, YearMonth month) {
+        Object weekday = nth.get("weekday");
+        Object week = nth.get("week");
+        if (weekday == null || !(week instanceof Number)) {
+            throw new IllegalArgumentException("Invalid nthWeekday in recurrence_config: " + nth);
+        }
+        DayOfWeek dayOfWeek = parseDayOfWeek(weekday);
+        int n = ((Number) week).intValue();
+        if (n == -1) {
+            return month.atEndOfMonth().with(TemporalAdjusters.previousOrSame(dayOfWeek));
+        }
+        if (n < 1 || n > 5) {
+            throw new IllegalArgumentException("Invalid nthWeekday in recurrence_config: " + nth);
+        }
+        LocalDate date = month.atDay(1).with(TemporalAdjusters.nextOrSame(dayOfWeek)).plusWeeks(n - 1L);
+        return YearMonth.from(date).equals(month) ? date : null;
+    }
+
+    // dayOfMonth를 해당 월 기준 실제 날짜로 (-1 또는 월 길이 초과 시 말일)
+    private static int resolveDay(int dayOfMonth, YearMonth yearMonth) {
+        if (dayOfMonth == -1) {
+            return yearMonth.lengthOfMonth();
+        }
+        if (dayOfMonth < 1 || dayOfMonth > 31) {
+            throw new IllegalArgumentException("Invalid dayOfMonth in recurrence_config: " + dayOfMonth);
+        }
+        return Math.min(dayOfMonth, yearMonth.lengthOfMonth());
+    }
+
+    private static Set<DayOfWeek> getWeekdays(Map<String, Object> config, LocalDate start) {
+        Object value = config.get("weekdays");
+        if (!(value instanceof List<?> list) || list.isEmpty()) {
+            return EnumSet.of(start.getDayOfWeek());
+        }
+        Set<DayOfWeek> weekdays = EnumSet.noneOf(DayOfWeek.class);
+        for (Object item : list) {
+            weekdays.add(parseDayOfWeek(item));
+        }
+        return weekdays;
+    }
+
+    private static DayOfWeek parseDayOfWeek(Object value) {
+        try {
+            return DayOfWeek.valueOf(String.valueOf(value).toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid weekday in recurrence_config: " + value);
+        }
+    }
+
+    private static int getInt(Map<String, Object> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        try {
+            return Integer.parseInt(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + key + " in recurrence_config: " + value);
+        }
+    }
+
+    private static LocalDate getDate(Map<String, Object> config, String key, LocalDate defaultValue) {
+        Object value = config.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return LocalDate.parse(String.valueOf(value));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + key + " in recurrence_config: " + value);
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.eunhanlee.taskorbit.util;
 import com.eunhanlee.taskorbit.entity.Task;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 public class TaskConverter {
     
@@ -20,7 +23,26 @@ public class TaskConverter {
         map.put("status", task.getStatus() != null ? task.getStatus().name() : null);
         map.put("dueDate", task.getDueDate() != null ? task.getDueDate().toString() : null);
         map.put("createdAt", task.getCreatedAt() != null ? task.getCreatedAt().toString() : null);
+        map.put("recurringSettingId", task.getRecurringSettingId());
+        map.put("occurrenceDate", task.getOccurrenceDate() != null ? task.getOccurrenceDate().toString() : null);
         return map;
     }
+
+    // 두 스냅샷 사이에 값이 바뀐 필드 이름
+    public static Set<String> changedKeys(Map<String, Object> oldMap, Map<String, Object> newMap) {
+        Set<String> keys = new HashSet<>(oldMap.keySet());
+        keys.addAll(newMap.keySet());
+        keys.removeIf(key -> Objects.equals(oldMap.get(key), newMap.get(key)));
+        return keys;
+    }
+
+    // 지정한 필드만 남긴 복사본
+    public static Map<String, Object> retainKeys(Map<String, Object> map, Set<String> keys) {
+        Map<String, Object> result = new HashMap<>();
+        for (String key : keys) {
+            result.put(key, map.get(key));
+        }
+        return result;
+    }
 }
 
@@ -0,0 +1,5 @@
+-- Precomputed next occurrence per recurring setting (maintained by the app's recurrence engine).
+-- Existing active settings are initialized on application startup.
+ALTER TABLE recurring_task_settings ADD COLUMN next_run_date DATE;
+
+CREATE INDEX idx_recurring_task_settings_next_run_date ON recurring_task_settings(next_run_date) WHERE is_active;
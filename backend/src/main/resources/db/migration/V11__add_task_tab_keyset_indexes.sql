@@ -0,0 +1,10 @@
+-- Keyset pagination for Today/Later: (due_date, created_at, id) ascending
+DROP INDEX IF EXISTS idx_tasks_due_date;
+CREATE INDEX idx_tasks_due_date_created_at_id ON tasks(due_date, created_at, id);
+
+-- Keyset pagination for Done: (updated_at, id) descending among DONE tasks
+CREATE INDEX idx_tasks_done_updated_at_id ON tasks(updated_at DESC, id DESC) WHERE status = 'DONE';
+
+-- Keyset pagination for Record: (completed_date, id) descending
+DROP INDEX IF EXISTS idx_task_completion_records_completed_date;
+CREATE INDEX idx_task_completion_records_completed_date_id ON task_completion_records(completed_date DESC, id DESC);
@@ -0,0 +1,28 @@
+-- Undo/redo stack: each log points to the head it was applied on top of, undone marks reverted entries
+ALTER TABLE global_logs ADD COLUMN parent_log_id BIGINT REFERENCES global_logs(id) ON DELETE SET NULL;
+ALTER TABLE global_logs ADD COLUMN undone BOOLEAN NOT NULL DEFAULT false;
+
+-- Existing history becomes one linear chain in creation order
+UPDATE global_logs g
+SET parent_log_id = p.prev_id
+FROM (
+    SELECT id, LAG(id) OVER (ORDER BY created_at, id) AS prev_id
+    FROM global_logs
+) p
+WHERE g.id = p.id;
+
+-- Redo lookup: latest undone child of the current head
+CREATE INDEX idx_global_logs_parent_log_id_undone ON global_logs(parent_log_id, id DESC) WHERE undone;
+
+-- Single-row pointer to the latest applied log (NULL when everything has been undone)
+CREATE TABLE global_log_cursor (
+    id INTEGER PRIMARY KEY CHECK (id = 1),
+    head_log_id BIGINT REFERENCES global_logs(id) ON DELETE SET NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO global_log_cursor (id, head_log_id)
+SELECT 1, MAX(id) FROM global_logs;
+
+CREATE TRIGGER update_global_log_cursor_updated_at BEFORE UPDATE ON global_log_cursor
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
@@ -0,0 +1,2 @@
+-- UPDATE logs store only changed fields (delta = true); CREATE/DELETE and periodic UPDATE snapshots stay full
+ALTER TABLE global_logs ADD COLUMN delta BOOLEAN NOT NULL DEFAULT false;
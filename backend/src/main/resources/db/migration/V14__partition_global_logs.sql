@@ -0,0 +1,51 @@
+-- global_logs as monthly range partitions on created_at (partitions are created/dropped by the app)
+-- A partitioned table's primary key must include the partition key, so global_logs(id) can no longer be
+-- referenced by foreign keys: parent_log_id and global_log_cursor.head_log_id become plain ids.
+ALTER TABLE global_log_cursor DROP CONSTRAINT IF EXISTS global_log_cursor_head_log_id_fkey;
+
+ALTER TABLE global_logs RENAME TO global_logs_old;
+ALTER TABLE global_logs_old RENAME CONSTRAINT global_logs_pkey TO global_logs_old_pkey;
+DROP INDEX IF EXISTS idx_global_logs_entity;
+DROP INDEX IF EXISTS idx_global_logs_created_at;
+DROP INDEX IF EXISTS idx_global_logs_parent_log_id_undone;
+ALTER SEQUENCE global_logs_id_seq OWNED BY NONE;
+
+CREATE TABLE global_logs (
+    id BIGINT NOT NULL DEFAULT nextval('global_logs_id_seq'),
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    action_type VARCHAR(50) NOT NULL CHECK (action_type IN ('CREATE', 'UPDATE', 'DELETE')),
+    old_data JSONB,
+    new_data JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    parent_log_id BIGINT,
+    undone BOOLEAN NOT NULL DEFAULT false,
+    delta BOOLEAN NOT NULL DEFAULT false,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE global_logs_id_seq OWNED BY global_logs.id;
+
+-- Partitions from the oldest existing log through two months ahead
+DO $$
+DECLARE
+    m DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM global_logs_old), CURRENT_TIMESTAMP))::date;
+    end_month DATE := (date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '2 months')::date;
+BEGIN
+    WHILE m <= end_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF global_logs FOR VALUES FROM (%L) TO (%L)',
+                       'global_logs_y' || to_char(m, 'YYYY') || 'm' || to_char(m, 'MM'),
+                       m, (m + INTERVAL '1 month')::date);
+        m := (m + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO global_logs (id, entity_type, entity_id, action_type, old_data, new_data, created_at, parent_log_id, undone, delta)
+SELECT id, entity_type, entity_id, action_type, old_data, new_data, created_at, parent_log_id, undone, delta
+FROM global_logs_old;
+
+DROP TABLE global_logs_old;
+
+CREATE INDEX idx_global_logs_entity ON global_logs(entity_type, entity_id, id);
+CREATE INDEX idx_global_logs_created_at ON global_logs(created_at);
+CREATE INDEX idx_global_logs_parent_log_id_undone ON global_logs(parent_log_id, id DESC) WHERE undone;
@@ -0,0 +1,9 @@
+-- Pooled-lo id allocation: each nextval reserves a block of 50 ids (must match allocationSize on the entities)
+-- Column defaults keep using nextval, so native inserts stay safe (they just take the low id of a block)
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
+ALTER SEQUENCE task_logs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE task_completion_records_id_seq INCREMENT BY 50;
+ALTER SEQUENCE recurring_task_settings_id_seq INCREMENT BY 50;
+ALTER SEQUENCE global_logs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE scheduler_checkpoints_id_seq INCREMENT BY 50;
@@ -0,0 +1,2 @@
+-- Logs written by one bulk request share a group_id and are undone/redone together
+ALTER TABLE global_logs ADD COLUMN group_id UUID;
@@ -0,0 +1,7 @@
+-- One completion record per task (concurrent completes could insert duplicates)
+DELETE FROM task_completion_records cr
+USING task_completion_records keep
+WHERE keep.task_id = cr.task_id AND keep.id < cr.id;
+
+DROP INDEX IF EXISTS idx_task_completion_records_task_id;
+CREATE UNIQUE INDEX uq_task_completion_records_task_id ON task_completion_records(task_id);
@@ -0,0 +1,4 @@
+-- Optimistic locking (@Version): exposed as ETag, checked against If-Match on writes
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_logs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE recurring_task_settings ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
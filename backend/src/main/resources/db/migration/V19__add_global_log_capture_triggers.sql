@@ -0,0 +1,113 @@
+-- Optional trigger-based audit capture (audit.mode=TRIGGER).
+-- Row triggers on tasks and task_logs write global_logs in the same statement, so set-based changes
+-- (scheduler rollover/activation, recurring inserts, bulk deletes) are audited too.
+-- Triggers are created disabled; GlobalLogWriter enables them on startup only in TRIGGER mode.
+
+-- Audited fields, same keys as TaskConverter.taskToMap so undo/redo can restore from them
+CREATE OR REPLACE FUNCTION task_audit_data(t tasks) RETURNS JSONB AS $$
+    SELECT jsonb_build_object(
+        'id', t.id,
+        'title', t.title,
+        'category', t.category,
+        'size', t.size,
+        'status', t.status,
+        'dueDate', t.due_date,
+        'createdAt', t.created_at)
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION task_log_audit_data(l task_logs) RETURNS JSONB AS $$
+    SELECT jsonb_build_object(
+        'id', l.id,
+        'taskId', l.task_id,
+        'date', l.date,
+        'content', l.content,
+        'nextAction', l.next_action,
+        'createdAt', l.created_at)
+$$ LANGUAGE sql STABLE;
+
+-- Append one entry.
+-- UPDATE keeps only changed fields (delta); no audited field changed -> no entry.
+-- All entries of a transaction share one group_id, so one undo reverts the whole request.
+-- Undoable entries are chained on global_log_cursor.head_log_id like the application writer does;
+-- audit-only entries (task logs, scheduler changes marked with taskorbit.audit_undoable=off) are not chained.
+CREATE OR REPLACE FUNCTION append_global_log(p_entity_type TEXT, p_entity_id BIGINT, p_action TEXT,
+                                             p_old JSONB, p_new JSONB, p_undoable BOOLEAN)
+RETURNS VOID AS $$
+DECLARE
+    v_old JSONB := p_old;
+    v_new JSONB := p_new;
+    v_delta BOOLEAN := false;
+    v_group TEXT := current_setting('taskorbit.audit_group', true);
+    v_parent BIGINT;
+    v_id BIGINT;
+BEGIN
+    IF p_action = 'UPDATE' THEN
+        SELECT jsonb_object_agg(n.key, n.value), jsonb_object_agg(n.key, p_old -> n.key)
+          INTO v_new, v_old
+          FROM jsonb_each(p_new) n
+         WHERE n.value IS DISTINCT FROM p_old -> n.key;
+        IF v_new IS NULL THEN
+            RETURN;
+        END IF;
+        v_delta := true;
+    END IF;
+
+    IF v_group IS NULL OR v_group = '' THEN
+        v_group := gen_random_uuid()::text;
+        PERFORM set_config('taskorbit.audit_group', v_group, true);
+    END IF;
+
+    IF p_undoable AND coalesce(current_setting('taskorbit.audit_undoable', true), '') <> 'off' THEN
+        SELECT head_log_id INTO v_parent FROM global_log_cursor WHERE id = 1 FOR UPDATE;
+        INSERT INTO global_logs (entity_type, entity_id, action_type, old_data, new_data, delta, group_id, parent_log_id)
+        VALUES (p_entity_type, p_entity_id, p_action, v_old, v_new, v_delta, v_group::uuid, v_parent)
+        RETURNING id INTO v_id;
+        UPDATE global_log_cursor SET head_log_id = v_id WHERE id = 1;
+    ELSE
+        INSERT INTO global_logs (entity_type, entity_id, action_type, old_data, new_data, delta, group_id)
+        VALUES (p_entity_type, p_entity_id, p_action, v_old, v_new, v_delta, v_group::uuid);
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION capture_task_global_log() RETURNS TRIGGER AS $$
+BEGIN
+    -- Undo/redo applies logged states itself and must not log them again
+    IF current_setting('taskorbit.audit_skip', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP = 'INSERT' THEN
+        PERFORM append_global_log('Task', NEW.id, 'CREATE', NULL, task_audit_data(NEW), true);
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM append_global_log('Task', NEW.id, 'UPDATE', task_audit_data(OLD), task_audit_data(NEW), true);
+    ELSE
+        PERFORM append_global_log('Task', OLD.id, 'DELETE', task_audit_data(OLD), NULL, true);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION capture_task_log_global_log() RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('taskorbit.audit_skip', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP = 'INSERT' THEN
+        PERFORM append_global_log('TaskLog', NEW.id, 'CREATE', NULL, task_log_audit_data(NEW), false);
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM append_global_log('TaskLog', NEW.id, 'UPDATE', task_log_audit_data(OLD), task_log_audit_data(NEW), false);
+    ELSE
+        PERFORM append_global_log('TaskLog', OLD.id, 'DELETE', task_log_audit_data(OLD), NULL, false);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tasks_global_log AFTER INSERT OR UPDATE OR DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION capture_task_global_log();
+
+CREATE TRIGGER task_logs_global_log AFTER INSERT OR UPDATE OR DELETE ON task_logs
+    FOR EACH ROW EXECUTE FUNCTION capture_task_log_global_log();
+
+ALTER TABLE tasks DISABLE TRIGGER tasks_global_log;
+ALTER TABLE task_logs DISABLE TRIGGER task_logs_global_log;
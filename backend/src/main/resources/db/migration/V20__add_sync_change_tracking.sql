@@ -0,0 +1,77 @@
+-- Change tracking for delta sync (GET /api/sync?since=<cursor>).
+-- Every insert/update stamps the row with the writing transaction id and a sequence number,
+-- every delete leaves a tombstone. Readers only return changes of transactions older than the
+-- oldest one still running (snapshot xmin), so a change that commits late is never skipped by
+-- a cursor that has already moved past it.
+CREATE SEQUENCE sync_change_seq;
+
+ALTER TABLE tasks ADD COLUMN change_xid BIGINT NOT NULL DEFAULT 0,
+                  ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_logs ADD COLUMN change_xid BIGINT NOT NULL DEFAULT 0,
+                      ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE recurring_task_settings ADD COLUMN change_xid BIGINT NOT NULL DEFAULT 0,
+                                    ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE sync_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    change_xid BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Tombstones are pruned after a retention period; cursors at or below min_xid must resync
+CREATE TABLE sync_state (
+    id SMALLINT PRIMARY KEY,
+    min_xid BIGINT NOT NULL
+);
+INSERT INTO sync_state (id, min_xid) VALUES (1, 0);
+
+-- Stamp existing rows without touching updated_at (Done tab order, task log timestamps)
+ALTER TABLE task_logs DISABLE TRIGGER update_task_logs_updated_at;
+ALTER TABLE recurring_task_settings DISABLE TRIGGER update_recurring_task_settings_updated_at;
+UPDATE tasks SET change_xid = pg_current_xact_id()::text::bigint, change_seq = nextval('sync_change_seq');
+UPDATE task_logs SET change_xid = pg_current_xact_id()::text::bigint, change_seq = nextval('sync_change_seq');
+UPDATE recurring_task_settings SET change_xid = pg_current_xact_id()::text::bigint, change_seq = nextval('sync_change_seq');
+ALTER TABLE task_logs ENABLE TRIGGER update_task_logs_updated_at;
+ALTER TABLE recurring_task_settings ENABLE TRIGGER update_recurring_task_settings_updated_at;
+
+CREATE OR REPLACE FUNCTION stamp_sync_change() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id()::text::bigint;
+    NEW.change_seq := nextval('sync_change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- TG_ARGV[0]: entity type as returned by the sync API
+CREATE OR REPLACE FUNCTION record_sync_tombstone() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO sync_tombstones (entity_type, entity_id, change_xid, change_seq)
+    VALUES (TG_ARGV[0], OLD.id, pg_current_xact_id()::text::bigint, nextval('sync_change_seq'));
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tasks_sync_stamp BEFORE INSERT OR UPDATE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION stamp_sync_change();
+CREATE TRIGGER tasks_sync_tombstone AFTER DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone('Task');
+
+CREATE TRIGGER task_logs_sync_stamp BEFORE INSERT OR UPDATE ON task_logs
+    FOR EACH ROW EXECUTE FUNCTION stamp_sync_change();
+CREATE TRIGGER task_logs_sync_tombstone AFTER DELETE ON task_logs
+    FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone('TaskLog');
+
+CREATE TRIGGER recurring_task_settings_sync_stamp BEFORE INSERT OR UPDATE ON recurring_task_settings
+    FOR EACH ROW EXECUTE FUNCTION stamp_sync_change();
+CREATE TRIGGER recurring_task_settings_sync_tombstone AFTER DELETE ON recurring_task_settings
+    FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone('RecurringTaskSetting');
+
+-- Keyset scans in (change_xid, change_seq) order; merged across tables by the sync query
+CREATE INDEX idx_tasks_change ON tasks(change_xid, change_seq);
+CREATE INDEX idx_task_logs_change ON task_logs(change_xid, change_seq);
+CREATE INDEX idx_recurring_task_settings_change ON recurring_task_settings(change_xid, change_seq);
+CREATE INDEX idx_sync_tombstones_change ON sync_tombstones(change_xid, change_seq);
+CREATE INDEX idx_sync_tombstones_deleted_at ON sync_tombstones(deleted_at);
@@ -0,0 +1,4 @@
+-- Record tab pages by (completed_date, task_id) descending; one completion record per task since V17,
+-- so the page query filters and orders on the record row directly instead of aggregating per task
+DROP INDEX IF EXISTS idx_task_completion_records_completed_date_id;
+CREATE INDEX idx_task_completion_records_completed_date_task_id ON task_completion_records(completed_date DESC, task_id DESC);
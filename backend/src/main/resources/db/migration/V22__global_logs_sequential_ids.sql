@@ -0,0 +1,8 @@
+-- global_logs ids go back to one nextval per row: undo/redo and the per-entity snapshot count rely on
+-- id order matching write order, which pooled blocks break (native, trigger and compaction inserts take
+-- a fresh block ahead of an application's in-memory block). The async writer already batches rows.
+-- Continue above every id the last block may have handed out.
+SELECT setval('global_logs_id_seq',
+              GREATEST((SELECT COALESCE(MAX(id), 0) FROM global_logs),
+                       (SELECT last_value + 49 FROM global_logs_id_seq)));
+ALTER SEQUENCE global_logs_id_seq INCREMENT BY 1;
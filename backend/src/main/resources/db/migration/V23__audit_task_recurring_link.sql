@@ -0,0 +1,14 @@
+-- Task snapshots also carry the recurring setting link, so undoing the delete of a generated task
+-- restores recurring_setting_id/occurrence_date along with the rest of the row.
+CREATE OR REPLACE FUNCTION task_audit_data(t tasks) RETURNS JSONB AS $$
+    SELECT jsonb_build_object(
+        'id', t.id,
+        'title', t.title,
+        'category', t.category,
+        'size', t.size,
+        'status', t.status,
+        'dueDate', t.due_date,
+        'createdAt', t.created_at,
+        'recurringSettingId', t.recurring_setting_id,
+        'occurrenceDate', t.occurrence_date)
+$$ LANGUAGE sql STABLE;
@@ -0,0 +1,51 @@
+-- Audit capture mode is a database-level setting instead of per-instance trigger DDL.
+-- Toggling ENABLE/DISABLE TRIGGER at every startup took ACCESS EXCLUSIVE locks on tasks/task_logs, and
+-- instances configured with different modes flipped each other's capture.
+-- The triggers stay enabled and return early unless audit_settings.capture_mode = 'TRIGGER';
+-- application instances read the same row at startup and skip in-app capture when it says TRIGGER.
+CREATE TABLE audit_settings (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    capture_mode VARCHAR(16) NOT NULL DEFAULT 'APP' CHECK (capture_mode IN ('APP', 'TRIGGER'))
+);
+
+INSERT INTO audit_settings (id, capture_mode) VALUES (1, 'APP');
+
+CREATE OR REPLACE FUNCTION audit_trigger_capture() RETURNS BOOLEAN AS $$
+    SELECT coalesce((SELECT capture_mode = 'TRIGGER' FROM audit_settings WHERE id = 1), false)
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION capture_task_global_log() RETURNS TRIGGER AS $$
+BEGIN
+    -- Undo/redo applies logged states itself and must not log them again
+    IF current_setting('taskorbit.audit_skip', true) = 'on' OR NOT audit_trigger_capture() THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP = 'INSERT' THEN
+        PERFORM append_global_log('Task', NEW.id, 'CREATE', NULL, task_audit_data(NEW), true);
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM append_global_log('Task', NEW.id, 'UPDATE', task_audit_data(OLD), task_audit_data(NEW), true);
+    ELSE
+        PERFORM append_global_log('Task', OLD.id, 'DELETE', task_audit_data(OLD), NULL, true);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION capture_task_log_global_log() RETURNS TRIGGER AS $$
+BEGIN
+    IF current_setting('taskorbit.audit_skip', true) = 'on' OR NOT audit_trigger_capture() THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP = 'INSERT' THEN
+        PERFORM append_global_log('TaskLog', NEW.id, 'CREATE', NULL, task_log_audit_data(NEW), false);
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM append_global_log('TaskLog', NEW.id, 'UPDATE', task_log_audit_data(OLD), task_log_audit_data(NEW), false);
+    ELSE
+        PERFORM append_global_log('TaskLog', OLD.id, 'DELETE', task_log_audit_data(OLD), NULL, false);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE tasks ENABLE TRIGGER tasks_global_log;
+ALTER TABLE task_logs ENABLE TRIGGER task_logs_global_log;
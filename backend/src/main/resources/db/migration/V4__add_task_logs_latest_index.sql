@@ -0,0 +1,2 @@
+-- Latest log lookup per task (Next Action): supports DISTINCT ON (task_id) ... ORDER BY date DESC, created_at DESC
+CREATE INDEX idx_task_logs_task_id_date_created_at ON task_logs(task_id, date DESC, created_at DESC);
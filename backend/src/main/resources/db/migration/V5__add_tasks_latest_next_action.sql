@@ -0,0 +1,17 @@
+-- Denormalized Next Action: latest task_logs.next_action per task (ordered by date, created_at)
+ALTER TABLE tasks ADD COLUMN latest_next_action VARCHAR(500);
+
+UPDATE tasks t
+SET latest_next_action = (
+    SELECT tl.next_action
+    FROM task_logs tl
+    WHERE tl.task_id = t.id
+    ORDER BY tl.date DESC, tl.created_at DESC
+    LIMIT 1
+);
+
+-- Only user-visible task columns bump updated_at (Done tab ordering);
+-- projection refreshes must not reorder tasks
+DROP TRIGGER IF EXISTS update_tasks_updated_at ON tasks;
+CREATE TRIGGER update_tasks_updated_at BEFORE UPDATE OF title, category, size, status, due_date ON tasks
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
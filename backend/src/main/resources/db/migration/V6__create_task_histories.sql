@@ -0,0 +1,15 @@
+-- Accumulated History Log: stored once per task instead of being copied into every task_logs row
+CREATE TABLE task_histories (
+    task_id BIGINT PRIMARY KEY REFERENCES tasks(id) ON DELETE CASCADE,
+    history_log TEXT NOT NULL DEFAULT '',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO task_histories (task_id, history_log)
+SELECT tl.task_id,
+       string_agg(to_char(tl.date, 'YYYY-MM-DD') || E':\n' || tl.content, E'\n\n' ORDER BY tl.date, tl.created_at)
+FROM task_logs tl
+WHERE btrim(tl.content, E' \t\r\n') <> ''
+GROUP BY tl.task_id;
+
+ALTER TABLE task_logs DROP COLUMN history_log;
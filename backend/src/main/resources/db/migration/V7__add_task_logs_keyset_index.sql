@@ -0,0 +1,3 @@
+-- Keyset pagination for task logs: (date, created_at, id) descending per task
+DROP INDEX IF EXISTS idx_task_logs_task_id_date_created_at;
+CREATE INDEX idx_task_logs_task_id_date_created_at_id ON task_logs(task_id, date DESC, created_at DESC, id DESC);
@@ -0,0 +1,16 @@
+-- Daily scheduler checkpoints: one row per (run_date, phase), advanced after every committed chunk
+CREATE TABLE scheduler_checkpoints (
+    id BIGSERIAL PRIMARY KEY,
+    run_date DATE NOT NULL,
+    phase VARCHAR(50) NOT NULL CHECK (phase IN ('ACTIVATE_WAITING', 'MOVE_DONE_TO_RECORD', 'ROLLOVER', 'GENERATE_RECURRING')),
+    last_processed_id BIGINT NOT NULL DEFAULT 0,
+    affected_rows INTEGER NOT NULL DEFAULT 0,
+    duration_ms BIGINT NOT NULL DEFAULT 0,
+    completed BOOLEAN NOT NULL DEFAULT false,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (run_date, phase)
+);
+
+CREATE TRIGGER update_scheduler_checkpoints_updated_at BEFORE UPDATE ON scheduler_checkpoints
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
@@ -0,0 +1,26 @@
+-- Recurring occurrences: generated tasks link back to their setting and the date they were generated for.
+-- occurrence_date does not move on rollover, so (setting, occurrence_date) identifies one occurrence.
+ALTER TABLE tasks ADD COLUMN recurring_setting_id BIGINT REFERENCES recurring_task_settings(id) ON DELETE SET NULL;
+ALTER TABLE tasks ADD COLUMN occurrence_date DATE;
+
+-- Backfill tasks generated before this link existed. The old generator deduplicated by title, category
+-- and due_date and created each task on its occurrence day with due_date = that day; rollover only moves
+-- due_date forward, so created_at's date is the occurrence. One task per (setting, occurrence).
+UPDATE tasks t
+SET recurring_setting_id = m.setting_id,
+    occurrence_date = m.occurrence_date
+FROM (
+    SELECT DISTINCT ON (s.id, g.created_at::date)
+           g.id AS task_id, s.id AS setting_id, g.created_at::date AS occurrence_date
+    FROM tasks g
+    JOIN recurring_task_settings s
+      ON g.title = s.title
+     AND g.category IS NOT DISTINCT FROM s.category
+     AND g.created_at >= s.created_at
+    WHERE g.due_date >= g.created_at::date
+    ORDER BY s.id, g.created_at::date, g.id
+) m
+WHERE t.id = m.task_id;
+
+-- NULLs are distinct, so manually created tasks are unaffected
+ALTER TABLE tasks ADD CONSTRAINT uq_tasks_recurring_occurrence UNIQUE (recurring_setting_id, occurrence_date);
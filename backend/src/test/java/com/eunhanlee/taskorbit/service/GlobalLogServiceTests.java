@@ -0,0 +1,63 @@
+package com.eunhanlee.taskorbit.service;
+
+import com.eunhanlee.taskorbit.entity.Task;
+import com.eunhanlee.taskorbit.entity.enums.TaskStatus;
+import com.eunhanlee.taskorbit.repository.TaskCompletionRecordRepository;
+import com.eunhanlee.taskorbit.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class GlobalLogServiceTests {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private GlobalLogService globalLogService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private TaskCompletionRecordRepository completionRecordRepository;
+
+	@Test
+	void undoDeleteRestoresTaskWithOriginalIdAndRedoDeletesItAgain() {
+		Task task = taskService.createTask(Task.builder().title("undo delete").category("test").build());
+		taskService.completeTask(task.getId());
+		taskService.deleteTask(task.getId());
+
+		assertThat(globalLogService.undo()).isPresent();
+		Task restored = taskRepository.findById(task.getId()).orElseThrow();
+		assertThat(restored.getTitle()).isEqualTo("undo delete");
+		assertThat(restored.getStatus()).isEqualTo(TaskStatus.DONE);
+		assertThat(completionRecordRepository.existsByTaskId(task.getId())).isTrue();
+
+		assertThat(globalLogService.redo()).isPresent();
+		assertThat(taskRepository.existsById(task.getId())).isFalse();
+		assertThat(completionRecordRepository.existsByTaskId(task.getId())).isFalse();
+	}
+
+	@Test
+	void redoCreateRecreatesTaskWithOriginalId() {
+		Task task = taskService.createTask(Task.builder().title("redo create").category("test").build());
+
+		assertThat(globalLogService.undo()).isPresent();
+		assertThat(taskRepository.existsById(task.getId())).isFalse();
+
+		assertThat(globalLogService.redo()).isPresent();
+		Task recreated = taskRepository.findById(task.getId()).orElseThrow();
+		assertThat(recreated.getTitle()).isEqualTo("redo create");
+		assertThat(recreated.getStatus()).isEqualTo(TaskStatus.ONGOING);
+
+		// 다시 만든 행도 버전 검사와 함께 수정 가능
+		Task updated = taskService.updateTask(task.getId(), Task.builder().title("renamed").build(), recreated.getVersion());
+		assertThat(updated.getTitle()).isEqualTo("renamed");
+
+		taskService.deleteTask(task.getId());
+	}
+}
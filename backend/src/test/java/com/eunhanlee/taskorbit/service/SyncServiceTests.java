@@ -0,0 +1,129 @@
+package com.eunhanlee.taskorbit.service;
+
+import com.eunhanlee.taskorbit.controller.SyncController;
+import com.eunhanlee.taskorbit.dto.SyncResponse;
+import com.eunhanlee.taskorbit.dto.TaskResponse;
+import com.eunhanlee.taskorbit.entity.Task;
+import com.eunhanlee.taskorbit.util.CursorUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class SyncServiceTests {
+
+	@Autowired
+	private SyncService syncService;
+
+	@Autowired
+	private SyncController syncController;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private static final int PAGE_SIZE = 2;
+
+	@Test
+	void pagingDoesNotSkipChangesCommittedLateByConcurrentWriter() throws Exception {
+		String cursor = drain(null, new ArrayList<>());
+
+		long lateId;
+		Task early;
+		List<SyncResponse> pages = new ArrayList<>();
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			// 먼저 시작했지만 나중에 커밋하는 쓰기
+			try (PreparedStatement statement = connection.prepareStatement(
+					"INSERT INTO tasks (title, category, status, due_date) VALUES ('sync late', 'test', 'ONGOING', CURRENT_DATE) RETURNING id")) {
+				ResultSet rs = statement.executeQuery();
+				rs.next();
+				lateId = rs.getLong(1);
+			}
+
+			early = taskService.createTask(Task.builder().title("sync early").category("test").build());
+
+			// 진행 중인 트랜잭션보다 뒤의 변경은 아직 반환하지 않음 (커서가 늦은 커밋을 넘어가지 않도록)
+			cursor = drain(cursor, pages);
+			assertThat(taskIds(pages)).doesNotContain(early.getId(), lateId);
+
+			connection.commit();
+		}
+
+		pages.clear();
+		drain(cursor, pages);
+		assertThat(taskIds(pages)).contains(early.getId(), lateId);
+
+		taskService.deleteTask(early.getId());
+		taskService.deleteTask(lateId);
+	}
+
+	@Test
+	void deletedTaskIsReturnedAsTombstone() {
+		Task task = taskService.createTask(Task.builder().title("sync delete").category("test").build());
+		String cursor = drain(null, new ArrayList<>());
+
+		taskService.deleteTask(task.getId());
+
+		List<SyncResponse> pages = new ArrayList<>();
+		drain(cursor, pages);
+		List<SyncResponse.Tombstone> deleted = pages.stream().flatMap(page -> page.getDeleted().stream()).toList();
+		assertThat(deleted).contains(new SyncResponse.Tombstone("Task", task.getId()));
+		assertThat(taskIds(pages)).doesNotContain(task.getId());
+	}
+
+	@Test
+	void expiredCursorIsRejectedWithGone() {
+		Task task = taskService.createTask(Task.builder().title("sync expired").category("test").build());
+		String cursor = drain(null, new ArrayList<>());
+		Long minXid = jdbcTemplate.queryForObject("SELECT min_xid FROM sync_state WHERE id = 1", Long.class);
+		long cursorXid = Long.parseLong(CursorUtil.decode(cursor, 2)[0]);
+		try {
+			// tombstone 정리가 커서 위치까지 진행된 상태
+			jdbcTemplate.update("UPDATE sync_state SET min_xid = ? WHERE id = 1", Math.max(cursorXid, 1));
+
+			assertThatThrownBy(() -> syncService.getChangesSince(cursor, PAGE_SIZE))
+					.isInstanceOf(IllegalStateException.class);
+			assertThat(syncController.getChanges(cursor, PAGE_SIZE).getStatusCode()).isEqualTo(HttpStatus.GONE);
+		} finally {
+			jdbcTemplate.update("UPDATE sync_state SET min_xid = ? WHERE id = 1", minXid);
+			taskService.deleteTask(task.getId());
+		}
+	}
+
+	// hasMore가 false가 될 때까지 이어서 조회하고 마지막 커서를 반환
+	private String drain(String since, List<SyncResponse> pages) {
+		String cursor = since;
+		SyncResponse page;
+		do {
+			page = syncService.getChangesSince(cursor, PAGE_SIZE);
+			pages.add(page);
+			cursor = page.getNextCursor();
+		} while (page.isHasMore());
+		return cursor;
+	}
+
+	private static List<Long> taskIds(List<SyncResponse> pages) {
+		return pages.stream()
+				.flatMap(page -> page.getTasks().stream())
+				.map(TaskResponse::getId)
+				.toList();
+	}
+}
@@ -0,0 +1,101 @@
+package com.eunhanlee.taskorbit.util;
+
+import com.eunhanlee.taskorbit.entity.enums.RecurrenceType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceCalculatorTest {
+
+	private static LocalDate next(RecurrenceType type, Map<String, Object> config, String anchor, String from) {
+		return RecurrenceCalculator.nextOccurrence(type, config, LocalDate.parse(anchor), LocalDate.parse(from));
+	}
+
+	@Test
+	void monthlyDayOfMonthClampsToMonthEnd() {
+		Map<String, Object> config = Map.of("dayOfMonth", 31);
+
+		assertThat(next(RecurrenceType.MONTHLY, config, "2025-01-31", "2025-02-01")).isEqualTo("2025-02-28");
+		assertThat(next(RecurrenceType.MONTHLY, config, "2025-01-31", "2025-03-01")).isEqualTo("2025-03-31");
+	}
+
+	@Test
+	void monthlyLastDay() {
+		Map<String, Object> config = Map.of("dayOfMonth", -1);
+
+		assertThat(next(RecurrenceType.MONTHLY, config, "2024-01-15", "2024-02-10")).isEqualTo("2024-02-29");
+		assertThat(next(RecurrenceType.MONTHLY, config, "2024-01-15", "2024-03-01")).isEqualTo("2024-03-31");
+	}
+
+	@Test
+	void yearlyFeb29FallsBackToFeb28InCommonYears() {
+		assertThat(next(RecurrenceType.YEARLY, Map.of(), "2024-02-29", "2024-03-01")).isEqualTo("2025-02-28");
+		assertThat(next(RecurrenceType.YEARLY, Map.of(), "2024-02-29", "2028-01-01")).isEqualTo("2028-02-29");
+	}
+
+	@Test
+	void fifthWeekdaySkipsMonthsWithoutOne() {
+		Map<String, Object> config = Map.of("nthWeekday", Map.of("week", 5, "weekday", "FRIDAY"));
+
+		assertThat(next(RecurrenceType.MONTHLY, config, "2025-01-01", "2025-01-01")).isEqualTo("2025-01-31");
+		assertThat(next(RecurrenceType.MONTHLY, config, "2025-01-01", "2025-02-01")).isEqualTo("2025-05-30");
+	}
+
+	@Test
+	void lastWeekday() {
+		Map<String, Object> config = Map.of("nthWeekday", Map.of("week", -1, "weekday", "MONDAY"));
+
+		assertThat(next(RecurrenceType.MONTHLY, config, "2025-01-01", "2025-02-01")).isEqualTo("2025-02-24");
+	}
+
+	@Test
+	void sparseConfigBeyondOneIntervalIsFound() {
+		// 12개월 간격의 2월 5번째 토요일: 2020년 다음은 2048년
+		Map<String, Object> config = Map.of(
+				"startDate", "2020-02-01",
+				"interval", 12,
+				"nthWeekday", Map.of("week", 5, "weekday", "SATURDAY"));
+
+		assertThat(next(RecurrenceType.MONTHLY, config, "2020-01-01", "2020-03-01")).isEqualTo("2048-02-29");
+	}
+
+	@Test
+	void weeklyWeekdaysWithInterval() {
+		Map<String, Object> config = Map.of(
+				"startDate", "2025-01-06",
+				"interval", 2,
+				"weekdays", List.of("MONDAY", "THURSDAY"));
+
+		assertThat(next(RecurrenceType.WEEKLY, config, "2025-01-06", "2025-01-07")).isEqualTo("2025-01-09");
+		assertThat(next(RecurrenceType.WEEKLY, config, "2025-01-06", "2025-01-10")).isEqualTo("2025-01-20");
+	}
+
+	@Test
+	void futureStartDate() {
+		Map<String, Object> config = Map.of("startDate", "2030-01-01", "interval", 3);
+
+		assertThat(next(RecurrenceType.DAILY, config, "2025-01-01", "2025-01-01")).isEqualTo("2030-01-01");
+		assertThat(next(RecurrenceType.DAILY, config, "2025-01-01", "2030-01-02")).isEqualTo("2030-01-04");
+	}
+
+	@Test
+	void invalidNthWeekdayIsRejected() {
+		Map<String, Object> config = Map.of("nthWeekday", Map.of("week", 6, "weekday", "MONDAY"));
+
+		assertThatThrownBy(() -> next(RecurrenceType.MONTHLY, config, "2025-01-01", "2025-01-01"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void invalidStartDateIsRejected() {
+		Map<String, Object> config = Map.of("startDate", "2025-13-01");
+
+		assertThatThrownBy(() -> next(RecurrenceType.DAILY, config, "2025-01-01", "2025-01-01"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}